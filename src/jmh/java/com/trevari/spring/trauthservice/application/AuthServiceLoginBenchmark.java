@@ -0,0 +1,107 @@
+package com.trevari.spring.trauthservice.application;
+
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamily;
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamilyRepository;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuditProperties;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
+import com.trevari.spring.trauthservice.infrastructure.security.CustomUserDetails;
+import com.trevari.spring.trauthservice.infrastructure.security.JwtProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginRateLimiter;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginThrottleProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenFamilyStore;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
+import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginRequestDTO;
+import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AuthService.login 에서 인증 이후 구간(AT/RT 두 번 생성) 비용 측정.
+ * BCrypt 비용을 분리하기 위해 AuthenticationManager 는 즉시 인증 성공을 돌려주는 스텁을 사용.
+ * 리프레시 토큰 패밀리는 TTL(2일) 동안 메모리에 쌓이므로 반복(iteration)마다 저장소를 새로 만들어 힙 증가를 막는다.
+ */
+@State(Scope.Benchmark)
+public class AuthServiceLoginBenchmark {
+
+    private AuthService authService;
+    private AuthenticationManager authenticated;
+    private TokenProvider tokenProvider;
+    private AuthLoginRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("trevari-auth");
+        props.setSecret(Base64.getEncoder().encodeToString(key));
+
+        tokenProvider = new TokenProvider(props);
+        tokenProvider.init();
+
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .id(42L)
+                .userId("bench-user")
+                .password("{noop}unused")
+                .authorities(List.<GrantedAuthority>of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        authenticated = authentication ->
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+
+        request = new AuthLoginRequestDTO("bench-user", "pw");
+    }
+
+    @Setup(Level.Iteration)
+    public void newRefreshTokenFamilyStore() {
+        RefreshTokenFamilyStore refreshTokenFamilyStore =
+                new RefreshTokenFamilyStore(new NoopRefreshTokenFamilyRepository(), new RefreshTokenProperties());
+        LoginThrottleProperties throttle = new LoginThrottleProperties();
+        throttle.setEnabled(false); // 같은 아이디로 반복 로그인하므로 시도 제한은 끔
+        AuditProperties audit = new AuditProperties();
+        audit.setEnabled(false); // 감사 기록 비용은 AuthAuditTrailBenchmark 에서 따로 측정
+        authService = new AuthService(authenticated, tokenProvider, refreshTokenFamilyStore,
+                null, new LoginRateLimiter(throttle), new AuthAuditTrail(events -> { }, audit)); // 로그아웃 미사용
+    }
+
+    @Benchmark
+    public AuthLoginResponseDTO loginIssuesAccessAndRefreshToken() {
+        return authService.login(request);
+    }
+
+    static class NoopRefreshTokenFamilyRepository implements RefreshTokenFamilyRepository {
+        @Override
+        public Optional<RefreshTokenFamily> findById(String familyId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void insert(RefreshTokenFamily family) {
+        }
+
+        @Override
+        public boolean rotate(String familyId, String expectedTokenId, String newTokenId, Instant newExpiresAt, Instant now) {
+            return false;
+        }
+
+        @Override
+        public boolean revoke(String familyId) {
+            return false;
+        }
+
+        @Override
+        public int deleteExpired(Instant now, int limit) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.trevari.spring.trauthservice.infrastructure.audit;
+
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 요청 경로의 감사 기록(record) 비용 측정.
+ * 별도 스레드가 계속 flush(기록은 no-op) 해 버퍼를 비우므로 정상 적재 경로를, @Threads 로 생산자 경합을 함께 본다.
+ * overflowPolicy=DROP 에서 버퍼가 차면 버림 경로가 섞이므로 결과와 함께 stats().dropped() 를 확인할 것.
+ */
+@State(Scope.Benchmark)
+public class AuthAuditTrailBenchmark {
+
+    @Param({"DROP", "SAMPLE"})
+    public AuditProperties.OverflowPolicy overflowPolicy;
+
+    private AuthAuditTrail auditTrail;
+    private Thread consumer;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() {
+        AuditProperties props = new AuditProperties();
+        props.setOverflowPolicy(overflowPolicy);
+        auditTrail = new AuthAuditTrail(events -> { }, props);
+
+        running = true;
+        consumer = Thread.ofPlatform().daemon().name("audit-bench-consumer").start(() -> {
+            while (running) {
+                auditTrail.flush();
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        consumer.join();
+        System.out.println("audit stats: " + auditTrail.stats());
+    }
+
+    @Benchmark
+    public void recordLoginSuccess() {
+        auditTrail.record(AuthAuditType.LOGIN_SUCCESS, "bench-user", "10.0.0.1", null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordLoginSuccessContended() {
+        auditTrail.record(AuthAuditType.LOGIN_SUCCESS, "bench-user", "10.0.0.1", null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.trevari.spring.trauthservice.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 요청 경로 로그 한 줄의 비용 측정 (@Threads 로 어펜더 락 경합 포함).
+ *  - SYNC    : 기본 설정과 같은 동기 어펜더, 이벤트마다 인코딩 + 쓰기 (immediateFlush)
+ *  - ASYNC   : prod 프로필의 비동기 어펜더 (queueSize 8192, neverBlock) → 큐가 차면 버려지므로 생산자 쪽 비용
+ *  - SAMPLED : ASYNC + SampledLogger (TokenProvider 거절 로그와 같은 구간당 10건)
+ * 출력은 임시 파일, 실행 후 삭제.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class LoggingBenchmark {
+
+    public enum Mode { SYNC, ASYNC, SAMPLED }
+
+    @Param({"SYNC", "ASYNC", "SAMPLED"})
+    public Mode mode;
+
+    private LoggerContext context;
+    private Path file;
+    private Logger logger;
+    private SampledLogger sampledLogger;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        file = Files.createTempFile("logging-bench", ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (mode != Mode.SYNC) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger(LoggingBenchmark.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        sampledLogger = new SampledLogger(logger, 10, Duration.ofMinutes(1));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void tokenRejected() {
+        if (mode == Mode.SAMPLED) {
+            sampledLogger.info("JWT rejected: stage={}, status={}", "SIGNATURE", "INVALID");
+        } else {
+            logger.info("JWT rejected: stage={}, status={}", "SIGNATURE", "INVALID");
+        }
+    }
+}
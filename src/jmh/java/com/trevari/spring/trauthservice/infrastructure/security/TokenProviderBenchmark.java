@@ -0,0 +1,102 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * TokenProvider 서명/검증 비용 측정.
+ * claimsCache=false 는 순수 HS512 서명·파싱 비용, true 는 반복 검증(캐시 히트) 비용.
+ * codec=JJWT/FAST 로 jjwt 와 전용 코덱의 처리량·할당률(gc.alloc.rate.norm)을 비교.
+ * profile=COMPACT 는 짧은 클레임 형식의 토큰 크기에 따른 차이.
+ */
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private static final String USER_ID = "bench-user";
+    private static final Long USER_DB_ID = 42L;
+    private static final String ROLE = "ROLE_USER";
+    private static final String USER_NAME = "벤치마크";
+
+    @Param({"false", "true"})
+    public boolean claimsCache;
+
+    @Param({"JJWT", "FAST"})
+    public JwtProperties.Codec codec;
+
+    @Param({"STANDARD", "COMPACT"})
+    public JwtProperties.TokenProfile profile;
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+    private String refreshToken;
+    private String expiredToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("trevari-auth");
+        props.setSecret(Base64.getEncoder().encodeToString(key));
+        props.getCache().setEnabled(claimsCache);
+        props.setCodec(codec);
+        props.setProfile(profile);
+
+        tokenProvider = new TokenProvider(props);
+        tokenProvider.init();
+
+        accessToken = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofHours(20));
+        refreshToken = signRefreshToken();
+        expiredToken = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofSeconds(-30));
+
+        int sigStart = accessToken.lastIndexOf('.') + 1;
+        char flipped = accessToken.charAt(sigStart) == 'A' ? 'B' : 'A';
+        tamperedToken = accessToken.substring(0, sigStart) + flipped + accessToken.substring(sigStart + 1);
+    }
+
+    @Benchmark
+    public String signAccessToken() {
+        return tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofHours(20));
+    }
+
+    @Benchmark
+    public String signRefreshToken() {
+        return tokenProvider.generateRefreshToken(USER_ID, USER_DB_ID, ROLE, USER_NAME,
+                tokenProvider.now().plus(Duration.ofDays(2)), TokenProvider.newTokenId(), TokenProvider.newTokenId());
+    }
+
+    @Benchmark
+    public TokenProvider.TokenStatus validateAccessToken() {
+        return tokenProvider.validate(accessToken);
+    }
+
+    @Benchmark
+    public TokenProvider.TokenStatus validateRefreshToken() {
+        return tokenProvider.validate(refreshToken);
+    }
+
+    @Benchmark
+    public TokenProvider.TokenStatus validateExpiredToken() {
+        return tokenProvider.validate(expiredToken);
+    }
+
+    @Benchmark
+    public TokenProvider.TokenStatus validateTamperedToken() {
+        return tokenProvider.validate(tamperedToken);
+    }
+
+    @Benchmark
+    public TokenProvider.Verification verifyAccessToken() {
+        return tokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public TokenProvider.Verification verifyRefreshToken() {
+        return tokenProvider.verify(refreshToken);
+    }
+}
@@ -0,0 +1,99 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트 (실제 컨트롤러 → 서비스 → DB 경로를 그대로 탄다).
+ * 결과는 outcome 문자열(ok / http_401 / io_error ...)로 돌려주어 리포트에서 상태별로 집계한다.
+ */
+final class AuthClient {
+
+    static final String OK = "ok";
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+
+    AuthClient(int port) {
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    String join(String userId, String password) {
+        Response res = post("/api/users", Map.of(
+                "userId", userId,
+                "password", password,
+                "userName", userId,
+                "role", "ROLE_USER"));
+        return res.outcome();
+    }
+
+    Result login(String userId, String password) {
+        return tokens(post("/api/auth/sessions", Map.of("userId", userId, "password", password)));
+    }
+
+    Result reissue(String refreshToken) {
+        return tokens(post("/api/auth/tokens", Map.of("refreshToken", refreshToken)));
+    }
+
+    /** 200 이라도 본문이 1(유효)이 아니면 실패로 집계 */
+    String validate(String accessToken) {
+        Response res = post("/api/auth/tokens/validate", Map.of("token", accessToken));
+        if (!OK.equals(res.outcome())) {
+            return res.outcome();
+        }
+        return "1".equals(res.body().trim()) ? OK : "token_" + res.body().trim();
+    }
+
+    // ---------- 내부 유틸 ----------
+    private Result tokens(Response res) {
+        if (!OK.equals(res.outcome())) {
+            return new Result(res.outcome(), null, null);
+        }
+        try {
+            JsonNode json = objectMapper.readTree(res.body());
+            return new Result(OK, json.path("accessToken").asText(null), json.path("refreshToken").asText(null));
+        } catch (IOException e) {
+            return new Result("bad_body", null, null);
+        }
+    }
+
+    private Response post(String path, Object body) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            return new Response(status / 100 == 2 ? OK : "http_" + status, response.body());
+        } catch (IOException e) {
+            return new Response("io_error", "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response("interrupted", "");
+        }
+    }
+
+    private record Response(String outcome, String body) {}
+
+    record Result(String outcome, String accessToken, String refreshToken) {
+        boolean ok() {
+            return OK.equals(outcome) && accessToken != null;
+        }
+    }
+}
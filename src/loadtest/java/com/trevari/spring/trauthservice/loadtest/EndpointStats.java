@@ -0,0 +1,65 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 측정값.
+ *  - responseTime : 예정 발사 시각부터 응답까지 (서버가 밀려 발사가 늦어진 시간 포함 → coordinated omission 없음)
+ *  - serviceTime  : 실제 전송 시작부터 응답까지 (참고용)
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(5);
+
+    final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+    final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+    private final ConcurrentHashMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void record(String outcome, long responseNanos, long serviceNanos) {
+        responseTime.recordValue(Math.min(responseNanos, HIGHEST_TRACKABLE));
+        serviceTime.recordValue(Math.min(serviceNanos, HIGHEST_TRACKABLE));
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+
+    /** max-in-flight 초과로 발사하지 못한 요청 (open model 에서 누락하면 안 되므로 따로 집계) */
+    void drop() {
+        dropped.increment();
+    }
+
+    /** 사용할 세션이 없어 보내지 못한 요청 */
+    void skip() {
+        skipped.increment();
+    }
+
+    long requests() {
+        return responseTime.getTotalCount();
+    }
+
+    long ok() {
+        LongAdder ok = outcomes.get(AuthClient.OK);
+        return ok != null ? ok.sum() : 0;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((k, v) -> sorted.put(k, v.sum()));
+        return sorted;
+    }
+}
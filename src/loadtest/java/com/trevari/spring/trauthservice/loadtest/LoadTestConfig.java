@@ -0,0 +1,63 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, gradle -Ploadtest.* 로 전달).
+ *  - rate       : 초당 요청 도착률 (open model, 응답을 기다리지 않고 정해진 시각에 발사)
+ *  - mix        : 요청 비율 (예: login=1,reissue=2,validate=7)
+ *  - users      : UserController 로 미리 가입시킬 사용자 수
+ *  - sessions   : 재발급/검증에 쓸 로그인 세션(AT/RT) 풀 크기
+ *  - max-in-flight : 동시에 진행 중인 요청 상한 (초과분은 발사하지 않고 dropped 로 집계)
+ */
+record LoadTestConfig(
+        String label,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int users,
+        int sessions,
+        int maxInFlight,
+        Path outputDir
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String label = System.getProperty("loadtest.label", "local");
+        return new LoadTestConfig(
+                label,
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s").toUpperCase(Locale.ROOT)),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s").toUpperCase(Locale.ROOT)),
+                parseMix(System.getProperty("loadtest.mix", "login=1,reissue=2,validate=7")),
+                Integer.parseInt(System.getProperty("loadtest.users", "200")),
+                Integer.parseInt(System.getProperty("loadtest.sessions", "1000")),
+                Integer.parseInt(System.getProperty("loadtest.max-in-flight", "10000")),
+                Path.of(System.getProperty("loadtest.output", "build/reports/loadtest")).resolve(label)
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("invalid loadtest.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + mix);
+        }
+        return weights;
+    }
+
+    enum Operation { LOGIN, REISSUE, VALIDATE }
+}
@@ -0,0 +1,101 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import com.trevari.spring.trauthservice.TrAuthServiceApplication;
+import com.trevari.spring.trauthservice.loadtest.LoadTestConfig.Operation;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest -Ploadtest.rate=500 -Ploadtest.duration=60s ...).
+ *  1) 같은 JVM 에서 애플리케이션을 H2(메모리) 로 기동
+ *  2) UserController(POST /api/users) 로 사용자 가입, 로그인으로 세션 풀 준비
+ *  3) 설정한 비율의 로그인/재발급/검증 요청을 고정 도착률로 발사 (warmup 구간은 측정 제외)
+ *  4) build/reports/loadtest/{label}/report.json + *.hgrm 기록
+ */
+public final class LoadTestMain {
+
+    private static final String USER_PREFIX = "loadtest-user-";
+    private static final String PASSWORD = "LoadTest!234";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(TrAuthServiceApplication.class, appArgs())) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            AuthClient client = new AuthClient(port);
+            OpenModelDriver.Users users = new OpenModelDriver.Users(USER_PREFIX, config.users(), PASSWORD);
+
+            register(client, users);
+            OpenModelDriver driver = new OpenModelDriver(config, client);
+            driver.seedSessions(users);
+
+            System.out.printf("load test '%s': %.0f req/s, warmup %s, duration %s, mix %s%n",
+                    config.label(), config.rate(), config.warmup(), config.duration(), config.mix());
+            Map<Operation, EndpointStats> stats = driver.run(users);
+
+            Path report = LoadTestReport.write(config, stats);
+            stats.forEach((op, s) -> {
+                if (config.mix().containsKey(op)) {
+                    System.out.printf("%-8s requests=%d ok=%d dropped=%d p50=%.2fms p99=%.2fms p99.9=%.2fms%n",
+                            op, s.requests(), s.ok(), s.dropped(),
+                            s.responseTime.getValueAtPercentile(50) / 1e6,
+                            s.responseTime.getValueAtPercentile(99) / 1e6,
+                            s.responseTime.getValueAtPercentile(99.9) / 1e6);
+                }
+            });
+            System.out.println("report: " + report.toAbsolutePath());
+        }
+    }
+
+    /** 명령행 인자로 넘겨 application.yml(PostgreSQL) 설정보다 우선 적용 */
+    private static String[] appArgs() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return new String[]{
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=classpath:loadtest-schema.sql",
+                "--jwt.issuer=loadtest",
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(secret),
+                // 모든 요청이 한 IP·소수 계정에서 나오므로 시도 제한은 끔 (실제 제한 비용은 JMH 로)
+                "--login-throttle.enabled=false",
+                // 요청마다 남기는 INFO 로그가 콘솔 출력 비용으로 측정을 왜곡하지 않도록
+                "--logging.level.com.trevari.spring.trauthservice=WARN",
+        };
+    }
+
+    private static void register(AuthClient client, OpenModelDriver.Users users) throws InterruptedException {
+        AtomicInteger failed = new AtomicInteger();
+        // 준비 단계는 해싱 벌크헤드 대기열(429)을 넘치지 않게 코어 수만큼만 동시에
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for (int i = 0; i < users.count(); i++) {
+                String userId = users.userId(i);
+                executor.execute(() -> {
+                    if (!AuthClient.OK.equals(client.join(userId, users.password()))) {
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+        }
+        if (failed.get() > 0) {
+            throw new IllegalStateException(failed.get() + " of " + users.count() + " registrations failed");
+        }
+    }
+}
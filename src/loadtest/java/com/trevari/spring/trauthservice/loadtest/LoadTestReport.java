@@ -0,0 +1,102 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trevari.spring.trauthservice.loadtest.LoadTestConfig.Operation;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결과 기록 : 버전 간 diff 할 수 있도록 키 순서가 고정된 report.json 과
+ * 엔드포인트별 HdrHistogram 백분위 분포(*.hgrm, ms 단위 → HdrHistogram plotter 로 겹쳐 그리기 가능).
+ */
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestReport() {
+    }
+
+    static Path write(LoadTestConfig config, Map<Operation, EndpointStats> stats) throws IOException {
+        Path dir = config.outputDir();
+        Files.createDirectories(dir);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", config.label());
+        report.put("config", configSection(config));
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        double seconds = config.duration().toNanos() / 1e9;
+        for (Map.Entry<Operation, EndpointStats> e : stats.entrySet()) {
+            if (!config.mix().containsKey(e.getKey())) {
+                continue;
+            }
+            String name = e.getKey().name().toLowerCase(Locale.ROOT);
+            EndpointStats s = e.getValue();
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", s.requests());
+            endpoint.put("ok", s.ok());
+            endpoint.put("errors", s.requests() - s.ok());
+            endpoint.put("dropped", s.dropped());
+            endpoint.put("skipped", s.skipped());
+            endpoint.put("throughputPerSec", round(s.ok() / seconds));
+            endpoint.put("outcomes", s.outcomes());
+            endpoint.put("responseTimeMs", percentiles(s.responseTime));
+            endpoint.put("serviceTimeMs", percentiles(s.serviceTime));
+            endpoints.put(name, endpoint);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + ".hgrm")))) {
+                s.responseTime.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        report.put("endpoints", endpoints);
+
+        Path file = dir.resolve("report.json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static Map<String, Object> configSection(LoadTestConfig config) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("rate", config.rate());
+        section.put("warmup", config.warmup().toString());
+        section.put("duration", config.duration().toString());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((op, weight) -> mix.put(op.name().toLowerCase(Locale.ROOT), weight));
+        section.put("mix", mix);
+        section.put("users", config.users());
+        section.put("sessions", config.sessions());
+        section.put("maxInFlight", config.maxInFlight());
+        return section;
+    }
+
+    private static Map<String, Object> percentiles(Histogram h) {
+        Map<String, Object> p = new LinkedHashMap<>();
+        p.put("p50", millis(h.getValueAtPercentile(50)));
+        p.put("p90", millis(h.getValueAtPercentile(90)));
+        p.put("p99", millis(h.getValueAtPercentile(99)));
+        p.put("p999", millis(h.getValueAtPercentile(99.9)));
+        p.put("p9999", millis(h.getValueAtPercentile(99.99)));
+        p.put("max", millis(h.getMaxValue()));
+        p.put("mean", round(h.getMean() / NANOS_PER_MILLI));
+        return p;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / NANOS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
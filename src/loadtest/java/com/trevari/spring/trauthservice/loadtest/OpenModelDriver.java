@@ -0,0 +1,157 @@
+package com.trevari.spring.trauthservice.loadtest;
+
+import com.trevari.spring.trauthservice.loadtest.LoadTestConfig.Operation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 고정 도착률(open model) 부하 발생기.
+ * i 번째 요청은 start + i / rate 시각에 응답 여부와 무관하게 가상 스레드로 발사되고,
+ * 지연은 그 예정 시각부터 재므로 서버가 느려져 발사가 밀리면 그대로 지연에 반영된다.
+ * 세션(RT)은 재발급 시 회전되므로 풀에서 꺼내 단독으로 쓰고 새 토큰으로 돌려놓는다 (같은 RT 동시 사용 → 재사용 탐지 방지).
+ */
+final class OpenModelDriver {
+
+    private final LoadTestConfig config;
+    private final AuthClient client;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] wheel;
+
+    private final BlockingQueue<Session> sessions;
+    private final AtomicReferenceArray<String> accessTokens; // 검증용 (최근 발급된 AT 들)
+
+    OpenModelDriver(LoadTestConfig config, AuthClient client) {
+        this.config = config;
+        this.client = client;
+        for (Operation op : Operation.values()) {
+            stats.put(op, new EndpointStats());
+        }
+        this.wheel = config.mix().entrySet().stream()
+                .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+                .toArray(Operation[]::new);
+        this.sessions = new LinkedBlockingQueue<>(config.sessions());
+        this.accessTokens = new AtomicReferenceArray<>(config.sessions());
+    }
+
+    /** 측정 전 세션 풀 채우기 (측정에는 포함하지 않음) */
+    void seedSessions(Users users) throws InterruptedException {
+        // 준비 단계는 해싱 벌크헤드 대기열(429)을 넘치지 않게 코어 수만큼만 동시에
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for (int i = 0; i < config.sessions(); i++) {
+                int index = i;
+                executor.execute(() -> {
+                    String userId = users.userId(index);
+                    AuthClient.Result res = client.login(userId, users.password());
+                    if (res.ok()) {
+                        offer(new Session(userId, res.accessToken(), res.refreshToken()));
+                    }
+                });
+            }
+        }
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("no sessions could be created, check the application log");
+        }
+    }
+
+    Map<Operation, EndpointStats> run(Users users) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended - end >= 0) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Operation op = wheel[random.nextInt(wheel.length)];
+                boolean measured = intended - measureFrom >= 0;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) stats.get(op).drop();
+                    continue;
+                }
+                int userIndex = random.nextInt(config.users());
+                executor.execute(() -> {
+                    try {
+                        execute(op, intended, measured, users, userIndex);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    // ---------- 내부 유틸 ----------
+    private void execute(Operation op, long intended, boolean measured, Users users, int userIndex) {
+        EndpointStats endpoint = stats.get(op);
+        long startedAt;
+        String outcome;
+        switch (op) {
+            case LOGIN -> {
+                String userId = users.userId(userIndex);
+                startedAt = System.nanoTime();
+                AuthClient.Result res = client.login(userId, users.password());
+                outcome = res.outcome();
+                if (res.ok()) {
+                    offer(new Session(userId, res.accessToken(), res.refreshToken()));
+                }
+            }
+            case REISSUE -> {
+                Session session = sessions.poll();
+                if (session == null) {
+                    if (measured) endpoint.skip();
+                    return;
+                }
+                startedAt = System.nanoTime();
+                AuthClient.Result res = client.reissue(session.refreshToken());
+                outcome = res.outcome();
+                if (res.ok()) {
+                    offer(new Session(session.userId(), res.accessToken(), res.refreshToken()));
+                }
+            }
+            case VALIDATE -> {
+                String accessToken = accessTokens.get(ThreadLocalRandom.current().nextInt(accessTokens.length()));
+                if (accessToken == null) {
+                    if (measured) endpoint.skip();
+                    return;
+                }
+                startedAt = System.nanoTime();
+                outcome = client.validate(accessToken);
+            }
+            default -> throw new IllegalStateException(op.name());
+        }
+        long done = System.nanoTime();
+        if (measured) {
+            endpoint.record(outcome, done - intended, done - startedAt);
+        }
+    }
+
+    private void offer(Session session) {
+        accessTokens.set(ThreadLocalRandom.current().nextInt(accessTokens.length()), session.accessToken());
+        sessions.offer(session); // 풀이 가득 차면 버림
+    }
+
+    private record Session(String userId, String accessToken, String refreshToken) {}
+
+    /** 미리 가입시킨 사용자 (loadtest-user-0 ... , 같은 비밀번호) */
+    record Users(String prefix, int count, String password) {
+        String userId(int index) {
+            return prefix + (index % count);
+        }
+    }
+}
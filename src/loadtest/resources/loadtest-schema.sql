@@ -0,0 +1,9 @@
+-- 엔티티가 없는(JDBC 로만 쓰는) 테이블, 나머지는 ddl-auto 로 생성
+CREATE TABLE IF NOT EXISTS auth_audit_events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type  VARCHAR(32)  NOT NULL,
+    user_id     VARCHAR(255),
+    client_ip   VARCHAR(45),
+    detail      VARCHAR(255),
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -1,11 +1,20 @@
 package com.trevari.spring.trauthservice.application;
 
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import com.trevari.spring.trauthservice.exception.LoginThrottledException;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
+import com.trevari.spring.trauthservice.infrastructure.concurrent.SingleFlight;
 import com.trevari.spring.trauthservice.infrastructure.security.CustomUserDetails;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginRateLimiter;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenFamilyStore;
+import com.trevari.spring.trauthservice.infrastructure.security.TokenRevocationService;
 import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
 import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginRequestDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginResponseDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.ReissueTokenResponseDTO;
+import com.trevari.spring.trauthservice.interfaces.dto.ValidTokenBatchResponseDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.ValidTokenResponseDTO;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,16 +23,89 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    // 이보다 작은 배치는 병렬화 오버헤드가 더 크므로 순차 처리
+    private static final int PARALLEL_BATCH_THRESHOLD = 8;
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(2);
+
     private final AuthenticationManager authenticationManager;
     private final TokenProvider tokenProvider;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuthAuditTrail auditTrail;
+
+    // 여러 탭/재시도로 동시에 들어온 같은 로그인(인증)·재발급은 한 번만 계산하고 결과를 공유 (계산이 끝나면 바로 제거)
+    private final SingleFlight<String, LoginOutcome> loginFlights = new SingleFlight<>();
+    private final SingleFlight<String, ReissueTokenResponseDTO> reissueFlights = new SingleFlight<>();
 
+    @Timed("auth.login")
     public AuthLoginResponseDTO login(AuthLoginRequestDTO userLoginRequestDTO) {
+        return login(userLoginRequestDTO, null);
+    }
+
+    /**
+     * clientIp 가 있으면 IP 별 시도 제한도 적용, 한도 초과 시 BCrypt 전에 LoginThrottledException.
+     * 시도 제한은 요청마다 적용하고, 그 뒤 같은 (아이디, 비밀번호 다이제스트)로 진행 중인 로그인이 있으면 그 결과를 함께 받는다.
+     * 공유하는 것은 인증(BCrypt) 결과뿐이고, 토큰 발급(패밀리 시작)·감사 기록·성공/실패 반영(시도 제한)은 요청마다 따로 한다.
+     */
+    @Timed("auth.login")
+    public AuthLoginResponseDTO login(AuthLoginRequestDTO userLoginRequestDTO, String clientIp) {
+        try {
+            loginRateLimiter.acquire(userLoginRequestDTO.userId(), clientIp);
+        } catch (LoginThrottledException e) {
+            auditTrail.record(AuthAuditType.LOGIN_THROTTLED, userLoginRequestDTO.userId(), clientIp, null);
+            throw e;
+        }
+        LoginOutcome outcome = loginFlights.execute(
+                digest(userLoginRequestDTO.userId(), userLoginRequestDTO.password()),
+                () -> authenticate(userLoginRequestDTO)
+        );
+
+        if (outcome.userDetails() == null) {
+            loginRateLimiter.onFailure(userLoginRequestDTO.userId());
+            auditTrail.record(AuthAuditType.LOGIN_FAILURE, userLoginRequestDTO.userId(), clientIp, outcome.failureReason());
+            return AuthLoginResponseDTO.failure("아이디 또는 비밀번호가 올바르지 않습니다.");
+        }
+        AuthLoginResponseDTO response = issueTokens(outcome.userDetails());
+        loginRateLimiter.onSuccess(userLoginRequestDTO.userId());
+        auditTrail.record(AuthAuditType.LOGIN_SUCCESS, outcome.userDetails().getUserId(), clientIp, null);
+        return response;
+    }
+
+    /** 동시에 들어온 같은 RT 재발급은 한 번만 회전 (중복 요청이 재사용 탐지로 패밀리를 폐기하지 않도록) */
+    @Timed("auth.reissue")
+    public ReissueTokenResponseDTO reissueTokens(String refreshToken) {
+        if (refreshToken == null) {
+            return rotateRefreshToken(null);
+        }
+        return reissueFlights.execute(digest(refreshToken), () -> rotateRefreshToken(refreshToken));
+    }
+
+    /** 다른 요청의 결과를 공유한 로그인 건수 */
+    public long coalescedLogins() {
+        return loginFlights.sharedCount();
+    }
+
+    /** 다른 요청의 결과를 공유한 재발급 건수 */
+    public long coalescedReissues() {
+        return reissueFlights.sharedCount();
+    }
+
+    // 동시 요청이 함께 받는 부분은 인증(BCrypt)까지, 실패 사유는 감사 기록용
+    private LoginOutcome authenticate(AuthLoginRequestDTO userLoginRequestDTO) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -31,43 +113,123 @@ public class AuthService {
                             userLoginRequestDTO.password()
                     )
             );
+            return new LoginOutcome((CustomUserDetails) authentication.getPrincipal(), null);
+        } catch (AuthenticationException e) {
+            return new LoginOutcome(null, e.getClass().getSimpleName());
+        }
+    }
 
-            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+    // 토큰은 요청마다 발급 (로그인마다 새 리프레시 토큰 패밀리 → 탭/기기별로 따로 회전)
+    private AuthLoginResponseDTO issueTokens(CustomUserDetails userDetails) {
+        String accessToken = createToken(userDetails, Duration.ofHours(20));
 
-            String accessToken = createToken(userDetails, Duration.ofHours(20));
-            String refreshToken = createToken(userDetails, Duration.ofDays(2));
+        String familyId = TokenProvider.newTokenId();
+        String refreshTokenId = TokenProvider.newTokenId();
+        Instant refreshExpiresAt = tokenProvider.now().plus(REFRESH_TOKEN_TTL);
+        String refreshToken = tokenProvider.generateRefreshToken(
+                userDetails.getUserId(),
+                userDetails.getId(),
+                userDetails.getRole(),
+                userDetails.getUsername(),
+                refreshExpiresAt,
+                refreshTokenId,
+                familyId
+        );
+        refreshTokenFamilyStore.startFamily(familyId, userDetails.getUserId(), refreshTokenId, refreshExpiresAt);
 
-            return AuthLoginResponseDTO.success(
-                    userDetails.getUserId(),
-                    userDetails.getUsername(),
-                    accessToken,
-                    refreshToken
-            );
-        } catch (AuthenticationException e) {
-            return AuthLoginResponseDTO.failure("아이디 또는 비밀번호가 올바르지 않습니다.");
-        }
+        return AuthLoginResponseDTO.success(
+                userDetails.getUserId(),
+                userDetails.getUsername(),
+                accessToken,
+                refreshToken
+        );
     }
 
-    public ReissueTokenResponseDTO reissueTokens(String refreshToken) {
-        // 쿠키에서 Refresh Token을 추출
-        if (refreshToken == null || validToken(refreshToken).statusNum() != TokenProvider.TokenStatus.VALID){
-            return ReissueTokenResponseDTO.builder()
-                    .success(false)
-                    .statusNum(-1)
-                    .build();
+    private ReissueTokenResponseDTO rotateRefreshToken(String refreshToken) {
+        // 쿠키에서 Refresh Token을 추출, 상태 판단과 클레임을 한 번의 검증으로
+        TokenProvider.Verification verification = tokenProvider.verify(refreshToken);
+        if (!verification.isValid()) {
+            auditTrail.record(AuthAuditType.REISSUE_FAILURE, null, null, verification.status().name());
+            return reissueFailure();
+        }
+
+        TokenProvider.TokenClaims parse = verification.claims();
+        String newRefreshTokenId = TokenProvider.newTokenId();
+        Instant refreshExpiresAt = tokenProvider.now().plus(REFRESH_TOKEN_TTL);
+
+        // 액세스 토큰으로는 재발급 불가
+        if (parse.type() == TokenProvider.TokenType.ACCESS
+                || (parse.type() == TokenProvider.TokenType.REFRESH && parse.familyId() == null)) {
+            auditTrail.record(AuthAuditType.REISSUE_FAILURE, parse.userId(), null, "NOT_REFRESH_TOKEN");
+            return reissueFailure();
+        }
+
+        String familyId = parse.familyId();
+        if (familyId == null) {
+            // typ/fid 도입 이전 토큰 (AT 와 구분 불가, jti/kid 도 없음) → 토큰 다이제스트를 exp 까지 기록해 한 번만 새 패밀리로 편입
+            if (!tokenRevocationService.consume(refreshToken, parse)) {
+                auditTrail.record(AuthAuditType.REISSUE_FAILURE, parse.userId(), null, "LEGACY_TOKEN_SPENT");
+                return reissueFailure();
+            }
+            familyId = TokenProvider.newTokenId();
+            refreshTokenFamilyStore.startFamily(familyId, parse.userId(), newRefreshTokenId, refreshExpiresAt);
+        } else {
+            RefreshTokenFamilyStore.RotationResult rotation =
+                    refreshTokenFamilyStore.rotate(familyId, parse.tokenId(), newRefreshTokenId, refreshExpiresAt);
+            if (rotation != RefreshTokenFamilyStore.RotationResult.ROTATED) {
+                // 이미 사용된 토큰(재사용 → 패밀리 폐기), 폐기/만료된 패밀리
+                auditTrail.record(AuthAuditType.REISSUE_FAILURE, parse.userId(), null, rotation.name());
+                return reissueFailure();
+            }
         }
 
-        TokenProvider.TokenClaims parse = tokenProvider.parse(refreshToken);
         String accessToken = createToken(parse, Duration.ofSeconds(20));
-        refreshToken = createToken(parse, Duration.ofDays(2));
+        String newRefreshToken = tokenProvider.generateRefreshToken(
+                parse.userId(),
+                parse.id(),
+                parse.role(),
+                parse.userName(),
+                refreshExpiresAt,
+                newRefreshTokenId,
+                familyId
+        );
+        auditTrail.record(AuthAuditType.REISSUE_SUCCESS, parse.userId());
 
         return ReissueTokenResponseDTO.builder()
                 .success(true)
                 .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .refreshToken(newRefreshToken)
                 .build();
     }
 
+    /**
+     * 로그아웃: AT 를 만료 시각까지 폐기하고, 같은 사용자의 RT 가 함께 오면 RT 와 그 패밀리도 폐기.
+     * 유효한 AT 가 아니면 false
+     */
+    @Timed("auth.logout")
+    public boolean logout(String accessToken, String refreshToken) {
+        TokenProvider.Verification accessVerification = tokenProvider.verify(accessToken);
+        if (!accessVerification.isValid()) {
+            return false;
+        }
+        TokenProvider.TokenClaims access = accessVerification.claims();
+        tokenRevocationService.revoke(access);
+
+        TokenProvider.Verification refreshVerification = refreshToken != null ? tokenProvider.verify(refreshToken) : null;
+        if (refreshVerification != null && refreshVerification.isValid()) {
+            TokenProvider.TokenClaims refresh = refreshVerification.claims();
+            if (access.userId().equals(refresh.userId())) {
+                tokenRevocationService.revoke(refresh);
+                if (refresh.familyId() != null) {
+                    refreshTokenFamilyStore.revoke(refresh.familyId());
+                }
+            }
+        }
+        auditTrail.record(AuthAuditType.LOGOUT, access.userId());
+        return true;
+    }
+
+    @Timed("auth.validate")
     public ValidTokenResponseDTO validToken(String token) {
         TokenProvider.TokenStatus validate = tokenProvider.validate(token);
         return ValidTokenResponseDTO
@@ -76,6 +238,47 @@ public class AuthService {
                 .build();
     }
 
+    /** 여러 토큰을 코어 수만큼 병렬 검증 (결과 순서 = 요청 순서, 판정은 validToken 과 동일) */
+    @Timed("auth.validate.batch")
+    public ValidTokenBatchResponseDTO validTokens(List<String> tokens) {
+        var stream = tokens.size() >= PARALLEL_BATCH_THRESHOLD ? tokens.parallelStream() : tokens.stream();
+        return new ValidTokenBatchResponseDTO(
+                stream.map(this::validTokenWithClaims).toList()
+        );
+    }
+
+    private ValidTokenBatchResponseDTO.Result validTokenWithClaims(String token) {
+        TokenProvider.Verification verification = tokenProvider.verify(token);
+        return verification.isValid()
+                ? ValidTokenBatchResponseDTO.Result.of(verification.status(), verification.claims())
+                : ValidTokenBatchResponseDTO.Result.of(verification.status());
+    }
+
+    // 진행 중 요청 식별용 SHA-256 (원문 비밀번호/토큰을 맵 키로 들고 있지 않도록)
+    private static String digest(String... parts) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                // 길이를 앞에 붙여 경계를 구분 ("ab"+"c" 와 "a"+"bc" 가 같은 키가 되지 않도록), null 은 -1
+                byte[] bytes = part != null ? part.getBytes(StandardCharsets.UTF_8) : null;
+                sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes != null ? bytes.length : -1).array());
+                if (bytes != null) {
+                    sha256.update(bytes);
+                }
+            }
+            return Base64.getEncoder().encodeToString(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private ReissueTokenResponseDTO reissueFailure() {
+        return ReissueTokenResponseDTO.builder()
+                .success(false)
+                .statusNum(-1)
+                .build();
+    }
+
     private String createToken(CustomUserDetails userDetails, Duration ttl) {
         return tokenProvider.generateToken(
                 userDetails.getUserId(),
@@ -96,4 +299,6 @@ public class AuthService {
         );
     }
 
+    /** 공유되는 인증 결과 (실패면 userDetails 가 null 이고 failureReason 이 있음) */
+    private record LoginOutcome(CustomUserDetails userDetails, String failureReason) {}
 }
@@ -0,0 +1,140 @@
+package com.trevari.spring.trauthservice.application;
+
+import com.trevari.spring.trauthservice.domain.user.User;
+import com.trevari.spring.trauthservice.domain.user.UserRepository;
+import com.trevari.spring.trauthservice.infrastructure.persistence.UserImportProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.BulkPasswordHasher;
+import com.trevari.spring.trauthservice.interfaces.dto.UserImportResponseDTO;
+import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 사용자 대량 이관.
+ * 입력을 chunk-size 건씩 끊어 (검증 → 파일 내/DB 중복 확인 → 병렬 해싱 → 배치 저장) 하며,
+ * 실패한 행은 사유와 함께 모아 응답하고 나머지는 계속 진행한다. 청크마다 커밋되므로 중간에 끊겨도 앞선 청크는 반영된 상태.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    // BCrypt 입력 한도 (넘으면 인코더가 IllegalArgumentException)
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private final UserRepository userRepository;
+    private final BulkPasswordHasher passwordHasher;
+    private final UserImportProperties props;
+
+    @Timed("auth.user.import")
+    public UserImportResponseDTO importUsers(Iterator<UserJoinRequestDTO> rows) {
+        Progress progress = new Progress(props.getMaxReportedFailures());
+        int chunkSize = Math.max(1, props.getChunkSize());
+        List<UserJoinRequestDTO> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        return UserImportResponseDTO.builder()
+                .total(progress.total)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .failures(progress.failures)
+                .build();
+    }
+
+    private void importChunk(List<UserJoinRequestDTO> chunk, Progress progress) {
+        // 1) 형식 검증 + 파일 내 중복 (먼저 나온 행이 우선)
+        Map<String, Integer> rowNumbers = new HashMap<>();
+        List<UserJoinRequestDTO> candidates = new ArrayList<>(chunk.size());
+        for (UserJoinRequestDTO req : chunk) {
+            int row = ++progress.total;
+            if (!isValid(req)) {
+                progress.fail(row, req.userId(), "INVALID_ROW");
+            } else if (!progress.seenUserIds.add(req.userId())) {
+                progress.fail(row, req.userId(), "DUPLICATE_USER_ID");
+            } else {
+                rowNumbers.put(req.userId(), row);
+                candidates.add(req);
+            }
+        }
+
+        // 2) DB 중복 (청크당 IN 쿼리 1회)
+        Set<String> existing = userRepository.findExistingUserIds(rowNumbers.keySet());
+        if (!existing.isEmpty()) {
+            candidates.removeIf(req -> {
+                if (!existing.contains(req.userId())) {
+                    return false;
+                }
+                progress.fail(rowNumbers.get(req.userId()), req.userId(), "DUPLICATE_USER_ID");
+                return true;
+            });
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 3) 해싱은 코어 수만큼 병렬로 (인코더가 거절한 행은 그 행만 실패)
+        List<String> hashes = passwordHasher.encodeAll(candidates.stream().map(UserJoinRequestDTO::password).toList());
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            UserJoinRequestDTO req = candidates.get(i);
+            if (hashes.get(i) == null) {
+                progress.fail(rowNumbers.get(req.userId()), req.userId(), "INVALID_ROW");
+                continue;
+            }
+            users.add(User.create(req.userId(), hashes.get(i), req.userName(), req.role()));
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        // 4) 배치 저장 (그 사이 생긴 충돌은 행 단위 실패로)
+        Map<String, String> failures = userRepository.insertAll(users);
+        failures.forEach((userId, reason) -> progress.fail(rowNumbers.get(userId), userId, reason));
+        progress.imported += users.size() - failures.size();
+    }
+
+    private static boolean isValid(UserJoinRequestDTO req) {
+        return hasText(req.userId())
+                && hasText(req.password())
+                && req.password().getBytes(StandardCharsets.UTF_8).length <= MAX_PASSWORD_BYTES
+                && hasText(req.userName())
+                && req.role() != null;
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private static final class Progress {
+        private final int maxReportedFailures;
+        private final Set<String> seenUserIds = new HashSet<>();
+        private final List<UserImportResponseDTO.RowFailure> failures = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        Progress(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        void fail(int row, String userId, String reason) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new UserImportResponseDTO.RowFailure(row, userId, reason));
+            }
+        }
+    }
+}
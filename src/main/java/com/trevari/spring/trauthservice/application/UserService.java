@@ -1,13 +1,18 @@
 package com.trevari.spring.trauthservice.application;
 
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import com.trevari.spring.trauthservice.domain.user.Role;
 import com.trevari.spring.trauthservice.domain.user.User;
 import com.trevari.spring.trauthservice.domain.user.UserRepository;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinResponseDTO;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,26 +20,39 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthAuditTrail auditTrail;
 
-    @Transactional
+    /** 공개 회원가입 : 요청 본문의 role 은 무시하고 항상 ROLE_USER */
+    @Timed("auth.join")
     public UserJoinResponseDTO join(UserJoinRequestDTO req) {
-        // 1) 중복 체크
-        if (userRepository.existsByUserId(req.userId())) {
-            return UserJoinResponseDTO.failure("DUPLICATE_USER_ID");
-        }
+        return create(req, Role.ROLE_USER);
+    }
 
-        // 2) 도메인 생성 (비밀번호 해시)
+    /** 관리자 전용 사용자 생성 : 요청의 role 그대로 (없으면 ROLE_USER) */
+    @Timed("auth.join.admin")
+    public UserJoinResponseDTO createByAdmin(UserJoinRequestDTO req) {
+        return create(req, req.role() != null ? req.role() : Role.ROLE_USER);
+    }
+
+    private UserJoinResponseDTO create(UserJoinRequestDTO req, Role role) {
+        // 1) 도메인 생성 (비밀번호 해시)
         User toSave = User.create(
                 req.userId(),
                 passwordEncoder.encode(req.password()),
                 req.userName(),
-                req.role()
+                role
         );
 
-        // 3) 저장
-        User saved = userRepository.save(toSave);
+        // 2) 저장 (INSERT 1회, 중복 여부는 유니크 제약으로 판정 → 별도 존재 확인/트랜잭션 불필요)
+        Optional<User> inserted = userRepository.insertIfAbsent(toSave);
+        if (inserted.isEmpty()) {
+            auditTrail.record(AuthAuditType.USER_JOIN_FAILURE, req.userId(), null, "DUPLICATE_USER_ID");
+            return UserJoinResponseDTO.failure("DUPLICATE_USER_ID");
+        }
+        User saved = inserted.get();
+        auditTrail.record(AuthAuditType.USER_JOINED, saved.getUserId());
 
-        // 4) 응답
+        // 3) 응답
         return UserJoinResponseDTO.success(
                 saved.getUserId(),
                 saved.getUserName()
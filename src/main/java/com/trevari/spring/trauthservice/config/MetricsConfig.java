@@ -0,0 +1,190 @@
+package com.trevari.spring.trauthservice.config;
+
+import com.trevari.spring.trauthservice.application.AuthService;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+import com.trevari.spring.trauthservice.infrastructure.concurrent.AdaptiveConcurrencyLimit;
+import com.trevari.spring.trauthservice.infrastructure.concurrent.ConcurrencyLimitFilter;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginRateLimiter;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenFamilyStore;
+import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
+import com.trevari.spring.trauthservice.infrastructure.security.UserDetailsCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 인증 핫패스 메트릭 (/actuator/prometheus).
+ *  - @Timed("auth.*") 메서드 타이머 (퍼센타일 설정은 application.yml management.metrics.distribution)
+ *  - 토큰 검증 결과별 카운터, 캐시 적중률/축출 (Micrometer cache.* 관례)
+ *  - 폐기 토큰 수, Bloom 필터 양성/오탐 건수
+ *  - 로그인 시도 제한 거절 건수(아이디/IP)와 추적 중인 키 수
+ *  - 메모리에 둔 폐기 패밀리 수 / 용량 초과로 밀려난 수 / 재사용 탐지 건수
+ *  - 감사 기록 버퍼 점유 / 버림·표본 제외·기록 건수
+ *  - 동시 중복 로그인/재발급이 결과를 공유한 건수
+ *  - 엔드포인트 분류별 동시 처리 한도 / 처리 중 건수 / 부하 차단(503) 건수
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder tokenProviderMetrics(TokenProvider tokenProvider) {
+        return registry -> {
+            for (TokenProvider.TokenStatus status : TokenProvider.TokenStatus.values()) {
+                FunctionCounter.builder("auth.token.validation", tokenProvider, tp -> tp.validationCount(status))
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+
+            if (tokenProvider.claimsCacheStats() != null) {
+                bindCache(registry, "jwt-claims", tokenProvider, TokenProvider::claimsCacheStats);
+            }
+            for (TokenProvider.RejectionStage stage : TokenProvider.RejectionStage.values()) {
+                FunctionCounter.builder("auth.token.rejected", tokenProvider, tp -> tp.rejectionCount(stage))
+                        .tag("stage", stage.name())
+                        .register(registry);
+            }
+            if (tokenProvider.rejectedTokenCacheStats() != null) {
+                bindCache(registry, "jwt-rejected", tokenProvider, TokenProvider::rejectedTokenCacheStats);
+            }
+            FunctionCounter.builder("auth.token.rejected.log.suppressed", tokenProvider, TokenProvider::suppressedRejectionLogs)
+                    .register(registry);
+
+            Gauge.builder("auth.token.revoked", tokenProvider, tp -> tp.revokedTokenStats().size())
+                    .register(registry);
+            FunctionCounter.builder("auth.token.revoked.filter.positives", tokenProvider,
+                            tp -> tp.revokedTokenStats().filterPositives())
+                    .register(registry);
+            FunctionCounter.builder("auth.token.revoked.filter.false.positives", tokenProvider,
+                            tp -> tp.revokedTokenStats().falsePositives())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(UserDetailsCache userDetailsCache) {
+        return registry -> {
+            String name = "user-details";
+            counter(registry, "cache.gets", name, "hit", userDetailsCache, c -> c.stats().hits() - c.stats().negativeHits());
+            counter(registry, "cache.gets", name, "negative-hit", userDetailsCache, c -> c.stats().negativeHits());
+            counter(registry, "cache.gets", name, "miss", userDetailsCache, c -> c.stats().misses());
+            counter(registry, "cache.evictions", name, null, userDetailsCache, c -> c.stats().evictions());
+            Gauge.builder("cache.size", userDetailsCache, c -> c.stats().size())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionTimer.builder("auth.user.cache.load", userDetailsCache,
+                            c -> c.stats().loads(), c -> c.stats().loadNanos(), TimeUnit.NANOSECONDS)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder refreshTokenFamilyMetrics(RefreshTokenFamilyStore refreshTokenFamilyStore) {
+        return registry -> {
+            Gauge.builder("auth.refresh.revoked.cached", refreshTokenFamilyStore, s -> s.stats().cachedRevokedFamilies())
+                    .register(registry);
+            FunctionCounter.builder("auth.refresh.revoked.cache.evictions", refreshTokenFamilyStore, s -> s.stats().cacheEvictions())
+                    .register(registry);
+            FunctionCounter.builder("auth.refresh.reuse", refreshTokenFamilyStore, s -> s.stats().reuseDetected())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder loginRateLimiterMetrics(LoginRateLimiter loginRateLimiter) {
+        return registry -> {
+            for (LoginRateLimiter.KeyType type : LoginRateLimiter.KeyType.values()) {
+                FunctionCounter.builder("auth.login.throttled", loginRateLimiter, l -> l.rejections(type))
+                        .tag("key", type.name().toLowerCase())
+                        .register(registry);
+            }
+            Gauge.builder("auth.login.throttle.keys", loginRateLimiter, LoginRateLimiter::trackedKeys)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder requestCoalescingMetrics(AuthService authService) {
+        return registry -> {
+            FunctionCounter.builder("auth.coalesced", authService, AuthService::coalescedLogins)
+                    .tag("op", "login")
+                    .register(registry);
+            FunctionCounter.builder("auth.coalesced", authService, AuthService::coalescedReissues)
+                    .tag("op", "reissue")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        return registry -> {
+            for (ConcurrencyLimitFilter.EndpointClass endpointClass : ConcurrencyLimitFilter.EndpointClass.values()) {
+                AdaptiveConcurrencyLimit limit = concurrencyLimitFilter.limit(endpointClass);
+                String endpoint = endpointClass.name().toLowerCase();
+                Gauge.builder("auth.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                        .tag("endpoint", endpoint)
+                        .register(registry);
+                Gauge.builder("auth.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                        .tag("endpoint", endpoint)
+                        .register(registry);
+                FunctionCounter.builder("auth.concurrency.rejected", limit, AdaptiveConcurrencyLimit::rejectedCount)
+                        .tag("endpoint", endpoint)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder authAuditMetrics(AuthAuditTrail auditTrail) {
+        return registry -> {
+            Gauge.builder("auth.audit.buffered", auditTrail, a -> a.stats().buffered())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.recorded", auditTrail, a -> a.stats().recorded())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.dropped", auditTrail, a -> a.stats().dropped())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.sampled.out", auditTrail, a -> a.stats().sampledOut())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.written", auditTrail, a -> a.stats().written())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.write.failures", auditTrail, a -> a.stats().writeFailures())
+                    .register(registry);
+            FunctionCounter.builder("auth.audit.dead.lettered", auditTrail, a -> a.stats().deadLettered())
+                    .register(registry);
+        };
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String name, T source,
+                                      Function<T, BoundedExpiringCache.Stats> stats) {
+        counter(registry, "cache.gets", name, "hit", source, s -> stats.apply(s).hits());
+        counter(registry, "cache.gets", name, "miss", source, s -> stats.apply(s).misses());
+        counter(registry, "cache.evictions", name, null, source, s -> stats.apply(s).evictions());
+        counter(registry, "cache.expirations", name, null, source, s -> stats.apply(s).expirations());
+        Gauge.builder("cache.size", source, s -> stats.apply(s).size())
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String meter, String cache, String result,
+                                    T source, ToDoubleFunction<T> fn) {
+        FunctionCounter.Builder<T> builder = FunctionCounter.builder(meter, source, fn).tag("cache", cache);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.trevari.spring.trauthservice.config;
+
+import com.trevari.spring.trauthservice.infrastructure.persistence.ReadReplicaProperties;
+import com.trevari.spring.trauthservice.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (datasource.replicas.enabled=true 이고 urls 가 있을 때).
+ * LazyConnectionDataSourceProxy 가 실제 커넥션을 첫 쿼리 시점까지 미루므로 트랜잭션의 readOnly 여부를 보고
+ *  - readOnly 트랜잭션(로그인 조회, 존재 확인 등) → ReplicaRoutingDataSource (정상 복제본 라운드로빈, 없으면 primary)
+ *  - 그 외(가입/비밀번호 변경 등 쓰기, 트랜잭션 없는 JDBC) → primary
+ * 로 보낸다. 이 설정이 DataSource 빈을 직접 만들므로 Boot 의 기본 DataSource 자동 설정은 비활성화된다.
+ * 사용 여부는 클래스 조건(@ConditionalOnProperty)이 아니라 실행 시 값으로 정한다 → AOT(-PfastStartup) 빌드에서도
+ * 빌드 때가 아닌 실행 환경의 DB_REPLICAS_ENABLED 가 반영된다. 꺼져 있으면 모든 커넥션이 primary.
+ */
+@Configuration
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ReadReplicaProperties props) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; replicasEnabled(props) && i < props.getUrls().size(); i++) {
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(props.getUrls().get(i))
+                    .username(props.getUsername() != null ? props.getUsername() : dataSourceProperties.getUsername())
+                    .password(props.getPassword() != null ? props.getPassword() : dataSourceProperties.getPassword())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(props.getMaxPoolSize());
+            replica.setInitializationFailTimeout(-1); // 복제본이 내려가 있어도 기동은 계속 (primary 로 대체)
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                (int) props.getHealthCheckTimeout().toSeconds());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 ReadReplicaProperties props) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        if (replicasEnabled(props)) {
+            proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        }
+        return proxy;
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return registry -> {
+            Gauge.builder("auth.db.replicas.healthy", replicaRoutingDataSource, ReplicaRoutingDataSource::healthyReplicas)
+                    .register(registry);
+            FunctionCounter.builder("auth.db.replicas.primary.fallback", replicaRoutingDataSource,
+                            ReplicaRoutingDataSource::primaryFallbacks)
+                    .register(registry);
+        };
+    }
+
+    private static boolean replicasEnabled(ReadReplicaProperties props) {
+        return props.isEnabled() && !props.getUrls().isEmpty();
+    }
+}
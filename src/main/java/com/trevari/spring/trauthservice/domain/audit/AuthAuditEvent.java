@@ -0,0 +1,17 @@
+package com.trevari.spring.trauthservice.domain.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/** 인증 감사 이벤트 (append-only, userId/clientIp/detail 은 없으면 null) */
+@Getter
+@Builder
+public class AuthAuditEvent {
+    private final AuthAuditType type;
+    private final String userId;
+    private final String clientIp;
+    private final String detail;   // 실패 사유 등
+    private final Instant occurredAt;
+}
@@ -0,0 +1,7 @@
+package com.trevari.spring.trauthservice.domain.audit;
+
+import java.util.List;
+
+public interface AuthAuditRepository {
+    void saveAll(List<AuthAuditEvent> events);
+}
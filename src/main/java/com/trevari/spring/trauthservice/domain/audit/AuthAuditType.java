@@ -0,0 +1,20 @@
+package com.trevari.spring.trauthservice.domain.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 감사 기록 대상 (failure = 실패/차단 계열, 표본 추출 시에도 항상 기록 시도) */
+@Getter
+@RequiredArgsConstructor
+public enum AuthAuditType {
+    LOGIN_SUCCESS(false),
+    LOGIN_FAILURE(true),
+    LOGIN_THROTTLED(true),
+    REISSUE_SUCCESS(false),
+    REISSUE_FAILURE(true),
+    LOGOUT(false),
+    USER_JOINED(false),
+    USER_JOIN_FAILURE(true);
+
+    private final boolean failure;
+}
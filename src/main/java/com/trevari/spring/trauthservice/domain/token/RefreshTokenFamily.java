@@ -0,0 +1,46 @@
+package com.trevari.spring.trauthservice.domain.token;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰 패밀리: 로그인 1회로 시작되어 재발급마다 currentTokenId 만 교체된다.
+ * 이미 교체된(=소비된) 토큰이 다시 제출되면 탈취로 보고 패밀리 전체를 폐기한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RefreshTokenFamily {
+    private final String familyId;
+    private final String userId;
+    private final String currentTokenId;
+    private final Instant expiresAt;
+    private final boolean revoked;
+
+    public static RefreshTokenFamily start(String familyId, String userId, String tokenId, Instant expiresAt) {
+        return RefreshTokenFamily.builder()
+                .familyId(familyId)
+                .userId(userId)
+                .currentTokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public RefreshTokenFamily rotate(String newTokenId, Instant newExpiresAt) {
+        return toBuilder()
+                .currentTokenId(newTokenId)
+                .expiresAt(newExpiresAt)
+                .build();
+    }
+
+    public RefreshTokenFamily revoke() {
+        return toBuilder()
+                .revoked(true)
+                .build();
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
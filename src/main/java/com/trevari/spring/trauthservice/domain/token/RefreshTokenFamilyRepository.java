@@ -0,0 +1,16 @@
+package com.trevari.spring.trauthservice.domain.token;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenFamilyRepository {
+    Optional<RefreshTokenFamily> findById(String familyId);
+    void insert(RefreshTokenFamily family);
+
+    /** current_token_id 가 expectedTokenId 이고 폐기·만료되지 않은 경우에만 교체, 교체했으면 true */
+    boolean rotate(String familyId, String expectedTokenId, String newTokenId, Instant newExpiresAt, Instant now);
+
+    /** 폐기 처리, 없는 패밀리면 false */
+    boolean revoke(String familyId);
+    int deleteExpired(Instant now, int limit);
+}
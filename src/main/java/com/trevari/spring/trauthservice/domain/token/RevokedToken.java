@@ -0,0 +1,16 @@
+package com.trevari.spring.trauthservice.domain.token;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/** 만료 전에 폐기된 토큰 (jti 기준, 토큰 만료 시각이 지나면 더 이상 보관할 필요 없음) */
+@Getter
+@Builder
+public class RevokedToken {
+    private final String tokenId;
+    private final String userId;
+    private final Instant expiresAt;
+    private final Instant revokedAt;
+}
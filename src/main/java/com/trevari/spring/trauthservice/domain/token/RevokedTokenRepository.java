@@ -0,0 +1,12 @@
+package com.trevari.spring.trauthservice.domain.token;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository {
+    void save(RevokedToken revokedToken);
+    /** 같은 tokenId 가 이미 있으면 저장하지 않고 false (노드 간 1회 사용 판정용) */
+    boolean saveIfAbsent(RevokedToken revokedToken);
+    List<RevokedToken> findRevokedSince(Instant since, Instant now);
+    int deleteExpired(Instant now, int limit);
+}
@@ -6,6 +6,28 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum Role {
-    ROLE_USER,
-    ROLE_ADMIN
+    ROLE_USER(1),
+    ROLE_ADMIN(2);
+
+    private final int code; // compact 토큰의 r 클레임 값 (한 번 배포된 값은 바꾸지 말 것)
+
+    /** 코드에 해당하는 Role, 없으면 null */
+    public static Role fromCode(long code) {
+        for (Role role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    /** 이름에 해당하는 Role, 없으면 null */
+    public static Role fromName(String name) {
+        for (Role role : values()) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
 }
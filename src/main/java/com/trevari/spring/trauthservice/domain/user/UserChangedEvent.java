@@ -0,0 +1,4 @@
+package com.trevari.spring.trauthservice.domain.user;
+
+/** 사용자 저장/변경 시 발행 (캐시 무효화 등 후속 처리용) */
+public record UserChangedEvent(String userId) {}
@@ -1,9 +1,23 @@
 package com.trevari.spring.trauthservice.domain.user;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     boolean existsByUserId(String userId);
     Optional<User> findByUserId(String userId);
     User save(User user);
+
+    /** INSERT 한 번으로 저장, 같은 userId 가 이미 있으면(유니크 제약 충돌) empty */
+    Optional<User> insertIfAbsent(User user);
+    void updatePassword(String userId, String encodedPassword);
+
+    /** 주어진 아이디 중 이미 존재하는 것 (대량 이관 시 청크 단위 중복 확인) */
+    Set<String> findExistingUserIds(Collection<String> userIds);
+
+    /** 한 번에 저장, 저장하지 못한 건은 userId → 실패 사유로 반환 */
+    Map<String, String> insertAll(List<User> users);
 }
@@ -0,0 +1,8 @@
+package com.trevari.spring.trauthservice.exception;
+
+/** 비밀번호 해싱 전용 스레드풀/대기열이 가득 찼을 때 (→ 429) */
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.trevari.spring.trauthservice.exception;
+
+import lombok.Getter;
+
+/** 사용자/IP 별 로그인 시도 한도 초과 (→ 429, BCrypt 를 돌리기 전에 거절) */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
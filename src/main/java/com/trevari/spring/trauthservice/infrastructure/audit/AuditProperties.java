@@ -0,0 +1,26 @@
+package com.trevari.spring.trauthservice.infrastructure.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("audit")
+public class AuditProperties {
+    private boolean enabled = true;
+    private int capacity = 16_384;                      // 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림), 기동 시 한 번만 할당
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(5); // BLOCK: 빈 슬롯을 기다리는 최대 시간 (초과 시 버림)
+    private double sampleThreshold = 0.75;              // SAMPLE: 버퍼 점유율이 이 이상이면 성공 이벤트만 표본 추출
+    private double sampleRate = 0.1;                    // SAMPLE: 표본으로 남길 성공 이벤트 비율
+    private Duration flushInterval = Duration.ofMillis(200);
+    private int batchSize = 500;                        // INSERT 배치 1회 건수
+
+    /** 버퍼가 가득 찼을 때: DROP 즉시 버림, BLOCK 잠시 대기 후 버림, SAMPLE 점유율이 높으면 성공 이벤트를 솎아냄 */
+    public enum OverflowPolicy { DROP, BLOCK, SAMPLE }
+}
@@ -0,0 +1,104 @@
+package com.trevari.spring.trauthservice.infrastructure.audit;
+
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditEvent;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 (락 없음, 슬롯은 생성 시 한 번만 할당).
+ * 슬롯마다 sequence 를 두어 생산자는 CAS 한 번으로 자리를 잡고 필드를 채운 뒤 sequence 로 공개하고,
+ * 소비자는 공개된 슬롯만 읽은 다음 한 바퀴 뒤의 sequence 로 되돌려 재사용한다.
+ * 생산 경로에는 이벤트 객체 할당이 없고, 이벤트(AuthAuditEvent)는 소비 시점에 만든다.
+ */
+class AuditRingBuffer {
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치
+    private volatile long head;                       // 다음에 읽을 위치 (소비자만 갱신)
+
+    AuditRingBuffer(int requestedCapacity) {
+        int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+    }
+
+    /** 빈 슬롯이 없으면 false (대기하지 않음) */
+    boolean offer(AuthAuditType type, String userId, String clientIp, String detail, long occurredAtMillis) {
+        long position = tail.get();
+        while (true) {
+            Slot slot = slots[(int) position & mask];
+            long diff = slot.sequence - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.type = type;
+                    slot.userId = userId;
+                    slot.clientIp = clientIp;
+                    slot.detail = detail;
+                    slot.occurredAtMillis = occurredAtMillis;
+                    slot.sequence = position + 1; // 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; // 한 바퀴 전 이벤트를 아직 소비하지 않음 → 가득 참
+            } else {
+                position = tail.get(); // 다른 생산자가 먼저 차지
+            }
+        }
+    }
+
+    /** 공개된 이벤트를 최대 max 건 꺼내 out 에 추가 (단일 소비자 전용), 꺼낸 건수 반환 */
+    int drainTo(List<AuthAuditEvent> out, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            Slot slot = slots[(int) position & mask];
+            if (slot.sequence != position + 1) {
+                break; // 비었거나 생산자가 아직 쓰는 중
+            }
+            out.add(AuthAuditEvent.builder()
+                    .type(slot.type)
+                    .userId(slot.userId)
+                    .clientIp(slot.clientIp)
+                    .detail(slot.detail)
+                    .occurredAt(Instant.ofEpochMilli(slot.occurredAtMillis))
+                    .build());
+            slot.userId = null;
+            slot.clientIp = null;
+            slot.detail = null;
+            slot.sequence = position + slots.length; // 다음 바퀴에 재사용
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    private static final class Slot {
+        private volatile long sequence;
+        private AuthAuditType type;
+        private String userId;
+        private String clientIp;
+        private String detail;
+        private long occurredAtMillis;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.trevari.spring.trauthservice.infrastructure.audit;
+
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditEvent;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditRepository;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인증 감사 기록 (요청 경로는 링 버퍼에 넣기만, DB 기록은 flush-interval 마다 배치 INSERT).
+ *  - record 는 CAS 한 번 + 슬롯 필드 쓰기로 끝나며 DB I/O·락·이벤트 객체 할당이 없다
+ *  - 버퍼가 가득 차면 overflow-policy 에 따라 버리거나(DROP), 잠시 기다리거나(BLOCK), 성공 이벤트를 솎아낸다(SAMPLE)
+ *  - 필드는 등록 시점에 컬럼 길이(user_id/detail 255, client_ip 45)로 자르고 NUL 문자를 제거
+ *  - 기록 실패한 배치는 다음 flush 에 다시 시도하고, 그동안 쌓이는 이벤트는 버퍼 한도 안에서만 보관
+ *    단 제약 위반(DataIntegrityViolationException)이면 한 건씩 다시 써서 문제 행만 dead-letter 로그로 빼고 넘어간다
+ * 장애/강제 종료 시 아직 flush 되지 않은 이벤트(최대 capacity 건)는 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class AuthAuditTrail {
+
+    private static final long BLOCK_PARK_NANOS = 10_000;
+    private static final int USER_ID_MAX_LENGTH = 255;
+    private static final int CLIENT_IP_MAX_LENGTH = 45;
+    private static final int DETAIL_MAX_LENGTH = 255;
+
+    // 기록하지 못한 행은 별도 로거로 남겨 파일/수집기에서 따로 보관·재처리
+    private static final Logger DEAD_LETTER = LoggerFactory.getLogger("auth.audit.dead-letter");
+
+    private final AuthAuditRepository repository;
+    private final AuditProperties props;
+    private final AuditRingBuffer buffer;
+    private final int sampleThreshold;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private List<AuthAuditEvent> pending = List.of(); // 기록 실패해 재시도할 배치 (flushLock 안에서만)
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public AuthAuditTrail(AuthAuditRepository repository, AuditProperties props) {
+        this.repository = repository;
+        this.props = props;
+        this.buffer = new AuditRingBuffer(props.getCapacity());
+        this.sampleThreshold = (int) (buffer.capacity() * props.getSampleThreshold());
+    }
+
+    public void record(AuthAuditType type, String userId) {
+        record(type, userId, null, null);
+    }
+
+    /** 감사 이벤트 등록 (대기 없음, BLOCK 정책에서만 block-timeout 까지 대기) */
+    public void record(AuthAuditType type, String userId, String clientIp, String detail) {
+        if (!props.isEnabled()) {
+            return;
+        }
+        AuditProperties.OverflowPolicy policy = props.getOverflowPolicy();
+        if (policy == AuditProperties.OverflowPolicy.SAMPLE && !type.isFailure()
+                && buffer.size() >= sampleThreshold
+                && ThreadLocalRandom.current().nextDouble() >= props.getSampleRate()) {
+            sampledOut.increment();
+            return;
+        }
+
+        userId = clean(userId, USER_ID_MAX_LENGTH);
+        clientIp = clean(clientIp, CLIENT_IP_MAX_LENGTH);
+        detail = clean(detail, DETAIL_MAX_LENGTH);
+
+        long now = System.currentTimeMillis();
+        if (buffer.offer(type, userId, clientIp, detail, now)
+                || (policy == AuditProperties.OverflowPolicy.BLOCK && offerUntilTimeout(type, userId, clientIp, detail, now))) {
+            recorded.increment();
+            return;
+        }
+        dropped.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${audit.flush-interval:200ms}")
+    public void flush() {
+        if (flushLock.tryLock()) {
+            try {
+                drainAndWrite();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(buffer.size(), buffer.capacity(), recorded.sum(), dropped.sum(), sampledOut.sum(),
+                written.sum(), writeFailures.sum(), deadLettered.sum());
+    }
+
+    // ---------- 내부 유틸 ----------
+    private boolean offerUntilTimeout(AuthAuditType type, String userId, String clientIp, String detail, long now) {
+        long deadline = System.nanoTime() + props.getBlockTimeout().toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(type, userId, clientIp, detail, now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainAndWrite() {
+        while (true) {
+            List<AuthAuditEvent> batch = pending;
+            if (batch.isEmpty()) {
+                batch = new ArrayList<>(props.getBatchSize());
+                if (buffer.drainTo(batch, props.getBatchSize()) == 0) {
+                    return;
+                }
+            }
+            try {
+                repository.saveAll(batch);
+            } catch (DataIntegrityViolationException e) {
+                // 배치 안 어느 행이 문제인지 모르므로 한 건씩 (DB 장애면 남은 행은 다음 flush 로)
+                writeFailures.increment();
+                if (!writeOneByOne(batch)) {
+                    return;
+                }
+                continue;
+            } catch (RuntimeException e) {
+                pending = batch;
+                writeFailures.increment();
+                log.warn("Auth audit flush failed, {} pending, {} buffered: {}", batch.size(), buffer.size(), e.getMessage());
+                return;
+            }
+            pending = List.of();
+            written.add(batch.size());
+        }
+    }
+
+    /** 한 건씩 기록, 제약 위반 행은 dead-letter. 다른 오류로 멈추면 남은 행을 pending 에 두고 false */
+    private boolean writeOneByOne(List<AuthAuditEvent> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            AuthAuditEvent event = batch.get(i);
+            try {
+                repository.saveAll(List.of(event));
+                written.increment();
+            } catch (DataIntegrityViolationException e) {
+                deadLettered.increment();
+                DEAD_LETTER.error("type={}, userId={}, clientIp={}, detail={}, occurredAt={}, cause={}",
+                        event.getType(), event.getUserId(), event.getClientIp(), event.getDetail(),
+                        event.getOccurredAt(), e.getMostSpecificCause().getMessage());
+            } catch (RuntimeException e) {
+                pending = List.copyOf(batch.subList(i, batch.size()));
+                log.warn("Auth audit flush failed, {} pending, {} buffered: {}", pending.size(), buffer.size(), e.getMessage());
+                return false;
+            }
+        }
+        pending = List.of();
+        return true;
+    }
+
+    // 컬럼 길이 초과·NUL 문자(PostgreSQL text 에 저장 불가)로 배치 전체가 실패하지 않도록
+    static String clean(String value, int maxLength) {
+        if (value == null || (value.length() <= maxLength && value.indexOf('\0') < 0)) {
+            return value;
+        }
+        String cleaned = value.replace("\0", "");
+        if (cleaned.length() <= maxLength) {
+            return cleaned;
+        }
+        // 서로게이트 쌍 가운데서 자르지 않도록
+        int end = Character.isHighSurrogate(cleaned.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return cleaned.substring(0, end);
+    }
+
+    /** 버퍼 점유, 누적 등록/버림/표본 제외/기록/기록 실패(배치 단위)/dead-letter 건수 */
+    public record Stats(int buffered, int capacity, long recorded, long dropped, long sampledOut,
+                        long written, long writeFailures, long deadLettered) {}
+}
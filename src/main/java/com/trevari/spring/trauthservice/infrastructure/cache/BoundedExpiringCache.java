@@ -0,0 +1,159 @@
+package com.trevari.spring.trauthservice.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔트리별 만료 시각 + 크기 기반 LRU 축출을 지원하는 동시성 캐시.
+ * 키 해시로 세그먼트를 나누고, 세그먼트마다 access-order LinkedHashMap 을 락 하나로 보호한다.
+ * 만료된 엔트리는 만료 시각 이후 절대 반환되지 않는다(조회 시점에 즉시 제거).
+ */
+public class BoundedExpiringCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();   // 용량 초과로 밀려난 수
+    private final LongAdder expirations = new LongAdder(); // 만료로 제거된 수
+
+    @SuppressWarnings("unchecked")
+    public BoundedExpiringCache(int maxEntries, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxEntries));
+        int perSegment = maxEntries / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment, this);
+        }
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.clock = clock;
+    }
+
+    /** 만료되지 않은 값만 반환, 없으면 null */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = clock.millis();
+
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (now >= entry.expiresAtMillis()) {
+                segment.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /** expiresAt 시각에 정확히 만료되도록 저장 (이미 지난 시각이면 저장하지 않음) */
+    public void put(K key, V value, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (clock.millis() >= expiresAtMillis) {
+            return;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.put(key, new Entry<>(value, expiresAtMillis));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+    }
+
+    // 세그먼트는 해시 상위 비트로 고름 (하위 비트는 세그먼트 안 HashMap 의 버킷 인덱스가 쓰므로 겹치면 충돌 체인이 길어짐)
+    // 세그먼트가 1개면 shift 가 32 → long 으로 밀어 0
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(int) ((h & 0xFFFFFFFFL) >>> segmentShift)];
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {}
+
+    /** 세그먼트 = 락 하나로 보호되는 access-order LinkedHashMap (LRU) */
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final BoundedExpiringCache<K, V> owner;
+
+        Segment(int capacity, BoundedExpiringCache<K, V> owner) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.owner = owner;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            if (owner.clock.millis() >= eldest.getValue().expiresAtMillis()) {
+                owner.expirations.increment();
+            } else {
+                owner.evictions.increment();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.trevari.spring.trauthservice.infrastructure.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 지연으로 조정되는 동시 처리 한도 (gradient 방식).
+ *  - windowSize 건마다 평균 지연(short)을 장기 평균(long)과 비교해 gradient = tolerance * long / short (0.5 ~ 1.0)
+ *  - 새 한도 = limit * gradient + sqrt(limit), smoothing 비율만큼만 반영하고 [min, max] 로 제한
+ *    → 지연이 기준 이하면 sqrt(limit) 씩 늘고, 기준의 tolerance 배를 넘으면 최대 절반까지 줄어든다
+ *  - 한도의 절반도 쓰지 않는 구간에서는 늘리지 않음 (부하가 없을 때 한도가 끝없이 커지는 것 방지)
+ *  - 부하가 풀려 short 가 long 의 절반 아래로 내려가면 long 을 조금씩 낮춰 기준을 따라가게 함
+ * 한도를 넘는 요청은 대기시키지 않고 바로 거절한다 (tryAcquire=false).
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    // 아래 필드는 lock 안에서만 접근
+    private final ReentrantLock lock = new ReentrantLock();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double tolerance, double smoothing, int windowSize, int longWindow) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = Math.max(1.0, tolerance);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.windowSize = Math.max(1, windowSize);
+        this.longWindow = Math.max(1, longWindow);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /** 한도 안이면 자리 하나 차지, 아니면 false (거절 건수 증가) */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** 처리 완료, rttNanos 를 지연 표본으로 반영 */
+    public void release(long rttNanos) {
+        int before = inFlight.getAndDecrement();
+        // 다른 요청이 조정 중이면 표본 하나는 버림 (요청 스레드를 락에서 기다리게 하지 않음)
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            windowRttSum += rttNanos;
+            windowMaxInFlight = Math.max(windowMaxInFlight, before);
+            if (++windowSamples >= windowSize) {
+                adjust((double) windowRttSum / windowSamples, windowMaxInFlight);
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 처리 실패 등 지연 표본으로 쓰지 않을 완료 */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    // ---------- 내부 유틸 ----------
+    private void adjust(double shortRtt, int maxInFlight) {
+        if (shortRtt <= 0) {
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / longWindow;
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        if (target > current && maxInFlight < current / 2) {
+            return;
+        }
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.min(maxLimit, Math.max(minLimit, next));
+    }
+}
@@ -0,0 +1,114 @@
+package com.trevari.spring.trauthservice.infrastructure.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.spring.trauthservice.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 인증 API 앞단의 부하 차단 (load shedding).
+ * 엔드포인트 분류별 AdaptiveConcurrencyLimit 을 넘는 요청은 톰캣 큐에 쌓지 않고 바로 503 + Retry-After 로 돌려보낸다.
+ * 보안 필터(JWT 검증)보다 먼저 실행해 거절 경로에 토큰 검증 비용이 들지 않게 한다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum EndpointClass { VALIDATE, SESSION, JOIN, BULK }
+
+    private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final ConcurrencyLimitProperties props;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties props, ObjectMapper objectMapper) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        limits.put(EndpointClass.VALIDATE, newLimit(props.getValidate()));
+        limits.put(EndpointClass.SESSION, newLimit(props.getSession()));
+        limits.put(EndpointClass.JOIN, newLimit(props.getJoin()));
+        limits.put(EndpointClass.BULK, newLimit(props.getBulk()));
+    }
+
+    public AdaptiveConcurrencyLimit limit(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled() || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = limits.get(classify(request));
+        if (!limit.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // 예외로 끝난 요청은 지연 표본에서 제외
+            if (completed) {
+                limit.release(System.nanoTime() - start);
+            } else {
+                limit.releaseWithoutSample();
+            }
+        }
+    }
+
+    // ---------- 내부 유틸 ----------
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/tokens/validate")) {
+            return EndpointClass.VALIDATE;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return EndpointClass.SESSION;
+        }
+        // 대량 이관은 요청 하나가 수천 건이라 지연이 가입과 자릿수가 다름 → 같은 한도에 섞으면 가입 한도가 줄어듦
+        if (path.equals("/api/users/bulk") || path.startsWith("/api/users/bulk/")) {
+            return EndpointClass.BULK;
+        }
+        if (path.equals("/api/users") || path.startsWith("/api/users/")) {
+            return EndpointClass.JOIN;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, props.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(LocalDateTime.now(), status.value(), MESSAGE, request.getRequestURI()));
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(ConcurrencyLimitProperties.Limit limit) {
+        return new AdaptiveConcurrencyLimit(limit.getInitial(), limit.getMin(), limit.getMax(),
+                props.getTolerance(), props.getSmoothing(), props.getWindowSize(), props.getLongWindow());
+    }
+}
@@ -0,0 +1,41 @@
+package com.trevari.spring.trauthservice.infrastructure.concurrent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1); // 거절 응답(503)의 Retry-After
+    private double tolerance = 1.5;   // 평균 지연이 기준의 이 배수를 넘으면 한도를 줄이기 시작
+    private double smoothing = 0.2;   // 조정값 반영 비율 (클수록 빠르게 반응)
+    private int windowSize = 20;      // 이 건수마다 한 번 조정
+    private int longWindow = 30;      // 기준 지연(장기 평균)에 반영되는 구간 수
+
+    // 엔드포인트 분류별 한도: 검증은 로그인/가입(BCrypt, DB 쓰기)이 느려져도 자리를 빼앗기지 않도록 따로 둔다
+    private final Limit validate = new Limit(200, 20, 2_000);
+    private final Limit session = new Limit(50, 5, 400);
+    private final Limit join = new Limit(20, 2, 100);
+    private final Limit bulk = new Limit(2, 1, 8);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initial;
+        private int min;
+        private int max;
+
+        public Limit(int initial, int min, int max) {
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
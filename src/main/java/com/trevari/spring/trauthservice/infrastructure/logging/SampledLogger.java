@@ -0,0 +1,63 @@
+package com.trevari.spring.trauthservice.infrastructure.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반복되는 INFO 메시지를 구간(interval)마다 maxPerInterval 건까지만 남기고 나머지는 건수만 센다.
+ * 생략 건수는 다음 구간의 첫 호출 또는 flushSummary() 에서 요약 한 줄로 남긴다.
+ * 한도를 넘은 뒤에는 읽기 + LongAdder 증가만 하므로 거절 폭주 중에도 어펜더 락까지 가지 않는다.
+ */
+public class SampledLogger {
+
+    private final Logger delegate;
+    private final int maxPerInterval;
+    private final long intervalNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger emitted = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder totalSuppressed = new LongAdder();
+
+    public SampledLogger(Logger delegate, int maxPerInterval, Duration interval) {
+        this.delegate = delegate;
+        this.maxPerInterval = Math.max(0, maxPerInterval);
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void info(String format, Object... args) {
+        if (!delegate.isInfoEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            flushSummary();
+            emitted.set(0);
+        }
+        // 한도를 넘은 뒤에는 카운터를 더 올리지 않음 (같은 캐시 라인에 대한 CAS 경합 방지)
+        if (emitted.get() < maxPerInterval && emitted.incrementAndGet() <= maxPerInterval) {
+            delegate.info(format, args);
+        } else {
+            suppressed.increment();
+        }
+    }
+
+    /** 마지막 요약 이후 생략된 건수를 한 줄로 남김 (없으면 아무것도 하지 않음) */
+    public void flushSummary() {
+        long count = suppressed.sumThenReset();
+        if (count > 0) {
+            totalSuppressed.add(count);
+            delegate.info("{} similar messages suppressed (max {} per {}ms)",
+                    count, maxPerInterval, intervalNanos / 1_000_000);
+        }
+    }
+
+    /** 누적 생략 건수 (아직 요약되지 않은 건 포함) */
+    public long suppressedCount() {
+        return totalSuppressed.sum() + suppressed.sum();
+    }
+}
@@ -0,0 +1,34 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditEvent;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AuthAuditRepositoryAdapter implements AuthAuditRepository {
+
+    // append-only 라 JPA 를 거치지 않고 JDBC 배치 한 번으로 (id 는 IDENTITY 컬럼 기본값)
+    private static final String INSERT_SQL = """
+            INSERT INTO auth_audit_events (event_type, user_id, client_ip, detail, occurred_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(List<AuthAuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getType().name());
+            ps.setString(2, event.getUserId());
+            ps.setString(3, event.getClientIp());
+            ps.setString(4, event.getDetail());
+            ps.setTimestamp(5, Timestamp.from(event.getOccurredAt()));
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("datasource.replicas")
+public class ReadReplicaProperties {
+    private boolean enabled = false;
+    private List<String> urls = new ArrayList<>();
+    private String username;                             // 비우면 spring.datasource.username
+    private String password;                             // 비우면 spring.datasource.password
+    private int maxPoolSize = 10;                        // 복제본마다
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+    private Duration readYourWritesWindow = Duration.ofSeconds(10); // 복제 지연보다 길게
+}
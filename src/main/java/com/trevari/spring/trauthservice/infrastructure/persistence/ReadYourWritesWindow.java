@@ -0,0 +1,54 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import com.trevari.spring.trauthservice.domain.user.UserChangedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 가입/변경된 userId 를 read-your-writes-window 동안 기억.
+ * 이 기간의 조회는 복제본 대신 primary 로 보내 복제 지연 때문에 방금 가입한 사용자가 로그인에 실패하지 않게 한다.
+ * (인스턴스 로컬 기록이므로 다른 인스턴스에서 가입한 경우는 UserDetailsServiceImpl 의 primary 재조회로 보완)
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private final ReadReplicaProperties props;
+    private final ConcurrentHashMap<String, Long> writtenUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(ReadReplicaProperties props) {
+        this.props = props;
+    }
+
+    public boolean isReplicaRoutingEnabled() {
+        return props.isEnabled();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (props.isEnabled()) {
+            writtenUntil.put(event.userId(), System.nanoTime() + props.getReadYourWritesWindow().toNanos());
+        }
+    }
+
+    public boolean isRecentlyWritten(String userId) {
+        Long until = writtenUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            writtenUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.read-your-writes-window:10s}")
+    public void sweep() {
+        long now = System.nanoTime();
+        writtenUntil.entrySet().removeIf(e -> now - e.getValue() >= 0);
+    }
+}
@@ -0,0 +1,39 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "refresh_token_families",
+        indexes = {
+                @Index(name = "idx_refresh_token_families_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_token_families_user_id", columnList = "user_id")
+        }
+)
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamilyEntity {
+
+    @Id
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "current_token_id", nullable = false, length = 36)
+    private String currentTokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+}
@@ -0,0 +1,6 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RefreshTokenFamilyJpaRepository extends JpaRepository<RefreshTokenFamilyEntity, String> {
+}
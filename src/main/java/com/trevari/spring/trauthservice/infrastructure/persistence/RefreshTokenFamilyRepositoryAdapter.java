@@ -0,0 +1,83 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamily;
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamilyRepository;
+import com.trevari.spring.trauthservice.interfaces.mapper.RefreshTokenFamilyMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenFamilyRepositoryAdapter implements RefreshTokenFamilyRepository {
+
+    // 쓰기는 JDBC 로 바로 (JPA merge 는 엔티티마다 SELECT 가 선행됨)
+    private static final String INSERT_SQL = """
+            INSERT INTO refresh_token_families (family_id, user_id, current_token_id, expires_at, revoked)
+            VALUES (?, ?, ?, ?, false)
+            """;
+
+    // 회전은 조건부 UPDATE 한 문장으로 판정 → 여러 노드가 같은 RT 를 동시에 내도 한 곳만 성공
+    private static final String ROTATE_SQL = """
+            UPDATE refresh_token_families
+               SET current_token_id = ?,
+                   expires_at       = ?
+             WHERE family_id = ?
+               AND current_token_id = ?
+               AND NOT revoked
+               AND expires_at > ?
+            """;
+
+    private static final String REVOKE_SQL = """
+            UPDATE refresh_token_families
+               SET revoked = true
+             WHERE family_id = ?
+            """;
+
+    // expires_at 인덱스를 타고 한 번에 limit 건씩만 삭제 (전체 테이블 스캔/장시간 락 방지)
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM refresh_token_families
+             WHERE family_id IN (
+                   SELECT family_id FROM refresh_token_families
+                    WHERE expires_at < ?
+                    LIMIT ?)
+            """;
+
+    private final RefreshTokenFamilyJpaRepository jpa;
+    private final RefreshTokenFamilyMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<RefreshTokenFamily> findById(String familyId) {
+        // 회전 판정은 최신 상태로 (복제본의 이전 current_token_id 로 판정하면 정상 재발급이 재사용으로 오판됨)
+        return ReplicaRouting.onPrimary(() -> jpa.findById(familyId))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public void insert(RefreshTokenFamily family) {
+        jdbcTemplate.update(INSERT_SQL, family.getFamilyId(), family.getUserId(), family.getCurrentTokenId(),
+                Timestamp.from(family.getExpiresAt()));
+    }
+
+    @Override
+    public boolean rotate(String familyId, String expectedTokenId, String newTokenId, Instant newExpiresAt, Instant now) {
+        return jdbcTemplate.update(ROTATE_SQL, newTokenId, Timestamp.from(newExpiresAt), familyId, expectedTokenId,
+                Timestamp.from(now)) == 1;
+    }
+
+    @Override
+    public boolean revoke(String familyId) {
+        return jdbcTemplate.update(REVOKE_SQL, familyId) > 0;
+    }
+
+    @Override
+    public int deleteExpired(Instant now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now), limit);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 복제본이 아닌 primary 에서 읽어야 하는 구간 표시.
+ * (복제 지연으로 방금 쓴 값이 안 보이면 안 되는 조회: 방금 가입한 사용자, RT 패밀리 상태 등)
+ * 복제본 라우팅이 꺼져 있으면 아무 효과 없음.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> reader) {
+        if (Boolean.TRUE.equals(PRIMARY.get())) {
+            return reader.get();
+        }
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY.remove();
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+}
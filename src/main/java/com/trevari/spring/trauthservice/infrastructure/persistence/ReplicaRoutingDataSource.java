@@ -0,0 +1,140 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기 전용 커넥션용 DataSource : 정상 복제본을 라운드로빈으로 고르고, 모두 비정상이거나 primary 고정 구간이면 primary.
+ * LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 등록되어 readOnly 트랜잭션에서만 쓰인다.
+ * 상태는 health-check-interval 마다 Connection.isValid 로 갱신하고, 커넥션 획득이 실패하면 즉시 비정상 처리 후 primary 로 넘긴다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, int healthCheckTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica(i, replicas.get(i)))
+                .toList();
+        this.healthCheckTimeoutSeconds = Math.max(1, healthCheckTimeoutSeconds);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReplicaRouting.isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        Replica replica = pick();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (ReplicaRouting.isPinnedToPrimary()) {
+            return primary.getConnection(username, password);
+        }
+        Replica replica = pick();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:5s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection c = replica.dataSource.getConnection()) {
+                healthy = c.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Read replica {} is now {}", replica.index, healthy ? "UP" : "DOWN");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public int healthyReplicas() {
+        int count = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) count++;
+        }
+        return count;
+    }
+
+    public long primaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // ---------- 내부 유틸 ----------
+    private Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("Read replica {} is now DOWN: {}", replica.index, e.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    private static final class Replica {
+        private final int index;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+    }
+}
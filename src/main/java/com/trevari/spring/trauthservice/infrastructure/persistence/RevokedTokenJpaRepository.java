@@ -0,0 +1,10 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, String> {
+    List<RevokedTokenEntity> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(Instant since, Instant now);
+}
@@ -0,0 +1,63 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import com.trevari.spring.trauthservice.domain.token.RevokedToken;
+import com.trevari.spring.trauthservice.domain.token.RevokedTokenRepository;
+import com.trevari.spring.trauthservice.interfaces.mapper.RevokedTokenMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepositoryAdapter implements RevokedTokenRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO revoked_tokens (token_id, user_id, expires_at, revoked_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (token_id) DO NOTHING
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM revoked_tokens
+             WHERE token_id IN (
+                   SELECT token_id FROM revoked_tokens
+                    WHERE expires_at < ?
+                    LIMIT ?)
+            """;
+
+    private final RevokedTokenJpaRepository jpa;
+    private final RevokedTokenMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(RevokedToken revokedToken) {
+        jpa.save(mapper.toEntity(revokedToken));
+    }
+
+    @Override
+    public boolean saveIfAbsent(RevokedToken revokedToken) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+                revokedToken.getTokenId(),
+                revokedToken.getUserId(),
+                Timestamp.from(revokedToken.getExpiresAt()),
+                Timestamp.from(revokedToken.getRevokedAt())) == 1;
+    }
+
+    @Override
+    public List<RevokedToken> findRevokedSince(Instant since, Instant now) {
+        // 폐기 목록은 복제 지연 없이 (복제본에서 읽으면 방금 로그아웃한 토큰이 한동안 통과할 수 있음)
+        return ReplicaRouting.onPrimary(() -> jpa.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteExpired(Instant now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now), limit);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("user-import")
+public class UserImportProperties {
+    private int chunkSize = 500;            // 중복 확인(IN 쿼리)·해싱·배치 INSERT 단위
+    private int maxReportedFailures = 1000; // 응답에 담을 실패 행 상세 최대 건수 (건수 집계는 전체)
+}
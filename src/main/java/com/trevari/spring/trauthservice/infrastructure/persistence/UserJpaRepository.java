@@ -1,10 +1,22 @@
 package com.trevari.spring.trauthservice.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByUserId(String userId);
     Optional<UserEntity> findByUserId(String userId);
+
+    @Query("select u.userId from UserEntity u where u.userId in :userIds")
+    List<String> findUserIdsIn(@Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query("update UserEntity u set u.password = :password where u.userId = :userId")
+    int updatePasswordByUserId(@Param("userId") String userId, @Param("password") String password);
 }
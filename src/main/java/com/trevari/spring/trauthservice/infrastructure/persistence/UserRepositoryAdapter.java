@@ -1,35 +1,138 @@
 package com.trevari.spring.trauthservice.infrastructure.persistence;
 
 import com.trevari.spring.trauthservice.domain.user.User;
+import com.trevari.spring.trauthservice.domain.user.UserChangedEvent;
 import com.trevari.spring.trauthservice.domain.user.UserRepository;
 import com.trevari.spring.trauthservice.interfaces.mapper.UserMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
+    // 대량 저장은 JDBC 배치로 (IDENTITY 엔티티는 Hibernate 가 배치하지 못함) → id 는 컬럼 기본값(시퀀스)이 채움
+    private static final String INSERT_SQL =
+            "INSERT INTO users (user_id, password, user_name, role) VALUES (?, ?, ?, ?)";
+
     private final UserJpaRepository jpa;
     private final UserMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public User save(User user) {
         UserEntity saved = jpa.save(mapper.toEntity(user));
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUserId()));
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public Optional<User> insertIfAbsent(User user) {
+        // 존재 확인 없이 바로 INSERT → 중복 판정은 user_id 유니크 제약이 원자적으로 (동시 가입 경쟁 없음)
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[]{"id"});
+                bind(ps, user);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+        Number id = keyHolder.getKey();
+        return Optional.of(User.reconstruct(
+                id != null ? id.longValue() : null,
+                user.getUserId(),
+                user.getPassword(),
+                user.getUserName(),
+                user.getRole()
+        ));
+    }
+
+    @Override
+    @Transactional
+    public void updatePassword(String userId, String encodedPassword) {
+        jpa.updatePasswordByUserId(userId, encodedPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+    }
+
     @Override
     public boolean existsByUserId(String userId) {
         return jpa.existsByUserId(userId);
     }
 
     @Override
+    @Timed("auth.user.lookup")
     public Optional<User> findByUserId(String userId) {
         return jpa.findByUserId(userId)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Set<String> findExistingUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpa.findUserIdsIn(userIds));
+    }
+
+    @Override
+    @Timed("auth.user.insert.batch")
+    public Map<String, String> insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            // 청크 전체를 한 트랜잭션 + 한 번의 배치로
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), UserRepositoryAdapter::bind));
+            users.forEach(u -> eventPublisher.publishEvent(new UserChangedEvent(u.getUserId())));
+            return Map.of();
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 동시 가입 등으로 일부가 충돌 → 배치는 롤백됐으므로 한 건씩 다시 저장하며 실패 건만 골라냄
+            log.info("batch insert of {} users failed, retrying row by row: {}", users.size(), e.getMessage());
+            return insertOneByOne(users);
+        }
+    }
+
+    private Map<String, String> insertOneByOne(List<User> users) {
+        Map<String, String> failures = new HashMap<>();
+        for (User user : users) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, user));
+                eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+            } catch (DuplicateKeyException e) {
+                failures.put(user.getUserId(), "DUPLICATE_USER_ID");
+            } catch (DataIntegrityViolationException e) {
+                failures.put(user.getUserId(), "INVALID_ROW");
+            }
+        }
+        return failures;
+    }
+
+    private static void bind(PreparedStatement ps, User user) throws SQLException {
+        ps.setString(1, user.getUserId());
+        ps.setString(2, user.getPassword());
+        ps.setString(3, user.getUserName());
+        ps.setString(4, user.getRole() != null ? user.getRole().name() : null); // null 은 NOT NULL 제약 위반으로
+    }
+
 }
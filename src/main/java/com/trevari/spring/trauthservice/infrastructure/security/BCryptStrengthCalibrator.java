@@ -0,0 +1,65 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 기동 시 현재 호스트에서 BCrypt 해싱 시간을 측정해 목표 지연시간 안에 들어오는 최대 cost 를 고른다.
+ * cost 가 1 오를 때마다 시간이 2배가 되므로 minStrength 에서 한 번 측정한 값으로 나머지를 추정한다.
+ * 측정값은 노드(하드웨어·부하)마다 다르므로 보정 결과를 password-hashing.strength 로 고정해 모든 노드에 같은 cost 를 쓰는 것을 권장한다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-Pa55word!";
+
+    private BCryptStrengthCalibrator() {}
+
+    public static int resolveStrength(PasswordHashingProperties props) {
+        Duration target = props.getTargetLatency();
+        if (target == null) {
+            return props.getStrength();
+        }
+
+        int min = props.getMinStrength();
+        int max = Math.max(min, props.getMaxStrength());
+        long baseNanos = measureNanos(min);
+
+        int chosen = min;
+        for (int strength = min + 1; strength <= max; strength++) {
+            long estimated = baseNanos << (strength - min);
+            if (estimated > target.toNanos()) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        long chosenMillis = (baseNanos << (chosen - min)) / 1_000_000;
+        if (chosenMillis > target.toMillis()) {
+            log.warn("BCrypt cost {} takes ~{}ms, over target {}ms (min-strength floor)", chosen, chosenMillis, target.toMillis());
+        } else {
+            log.info("BCrypt cost calibrated to {} (~{}ms per hash, target {}ms), pin with password-hashing.strength={} for all nodes",
+                    chosen, chosenMillis, target.toMillis(), chosen);
+        }
+        return chosen;
+    }
+
+    /** 워밍업 1회 후 SAMPLES 회 측정한 중앙값 */
+    private static long measureNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,76 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 이관용 병렬 해싱.
+ * 로그인/가입 벌크헤드(PasswordHashingExecutor)를 거치지 않고 별도 풀에서 원본 인코더로 해싱한다.
+ * → 이관 중에도 로그인 대기열이 이관 작업으로 채워져 429 가 나는 일이 없음 (CPU 는 공유하므로 한가한 시간대 실행 권장)
+ */
+@Slf4j
+@Component
+public class BulkPasswordHasher {
+
+    private final PasswordEncoder encoder;
+    private final ExecutorService executor;
+
+    public BulkPasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties props) {
+        this.encoder = passwordEncoder instanceof BulkheadPasswordEncoder bulkhead
+                ? bulkhead.getDelegate()
+                : passwordEncoder;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(props.resolvedBulkPoolSize(), r -> {
+            Thread t = new Thread(r, "bulk-password-hashing-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 입력 순서대로 해시 반환 (전부 끝날 때까지 대기).
+     * 인코더가 거절한 항목(예: BCrypt 72바이트 초과)은 null 로 돌려 호출 측이 행 단위 실패로 처리하게 한다.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String raw : rawPasswords) {
+            futures.add(executor.submit(() -> encoder.encode(raw)));
+        }
+
+        List<String> encoded = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                encoded.add(encodedOrNull(future));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("interrupted while waiting for password hashing", e);
+        }
+        return encoded;
+    }
+
+    // 항목 하나의 실패(RuntimeException)는 null, Error 는 그대로
+    private static String encodedOrNull(Future<String> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error err) throw err;
+            log.warn("Bulk password hashing failed: {}", cause.toString());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
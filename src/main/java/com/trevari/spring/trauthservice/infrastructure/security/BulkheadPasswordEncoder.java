@@ -0,0 +1,32 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실제 해싱(encode/matches)을 PasswordHashingExecutor 로 넘기는 PasswordEncoder 데코레이터.
+ * 로그인(DaoAuthenticationProvider)과 회원가입(UserService) 모두 이 빈을 거치므로 해싱 CPU 가 한곳에 격리된다.
+ */
+@RequiredArgsConstructor
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+
+    @Getter
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
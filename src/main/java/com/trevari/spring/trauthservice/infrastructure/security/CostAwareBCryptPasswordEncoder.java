@@ -0,0 +1,52 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 저장된 해시의 cost 가 현재 설정보다 낮으면 재해싱 대상으로 판단하는 BCryptPasswordEncoder.
+ * allowDowngrade 를 켜면 cost 가 높은 해시도 현재 값으로 낮춰 재해싱한다 (배포 환경별로 cost 를 낮추는 튜닝용).
+ * 노드마다 cost 가 다르면(기동 시 보정) 낮추기를 켠 상태에서 노드를 오갈 때마다 재해싱이 반복되므로 기본은 올리기만 한다.
+ */
+@Slf4j
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+    private final boolean allowDowngrade;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        this(strength, false);
+    }
+
+    public CostAwareBCryptPasswordEncoder(int strength, boolean allowDowngrade) {
+        super(strength);
+        this.strength = strength;
+        this.allowDowngrade = allowDowngrade;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 형식: $2a$10$<22자 salt><31자 hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) {
+            return false;
+        }
+        int cost;
+        try {
+            cost = Integer.parseInt(encodedPassword, costStart, costStart + 2, 10);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (cost < strength) {
+            return true;
+        }
+        if (cost > strength && allowDowngrade) {
+            log.warn("BCrypt rehash lowers cost {} -> {} (password-hashing.allow-downgrade=true)", cost, strength);
+            return true;
+        }
+        return false;
+    }
+}
@@ -40,6 +40,16 @@ public class CustomUserDetails implements UserDetails {
                 .build();
     }
 
+    // 비밀번호 재해싱 후 새 해시를 담은 사본
+    public CustomUserDetails withPassword(String encodedPassword) {
+        return CustomUserDetails.builder()
+                .id(id)
+                .userId(userId)
+                .password(encodedPassword)
+                .authorities(authorities)
+                .build();
+    }
+
     @Override public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
     @Override public String getPassword() { return password; }
     @Override public String getUsername() { return userId; }
@@ -0,0 +1,80 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/** ES256(P-256) 키 로딩/생성, JWK 좌표 인코딩, RFC 7638 thumbprint(kid) 유틸 */
+public final class EcKeys {
+
+    public static final String CURVE = "P-256";
+    private static final int COORDINATE_BYTES = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private EcKeys() {}
+
+    /** Base64(PKCS#8) 개인키 + Base64(X.509) 공개키 */
+    public static KeyPair load(String base64PrivateKey, String base64PublicKey) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            PrivateKey privateKey = factory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64PrivateKey)));
+            PublicKey publicKey = factory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(base64PublicKey)));
+            return new KeyPair(publicKey, privateKey);
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException | IllegalArgumentException e) {
+            throw new IllegalStateException("invalid EC key pair", e);
+        }
+    }
+
+    public static KeyPair generate() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cannot generate EC key pair", e);
+        }
+    }
+
+    /** JWK x 좌표 (base64url, 32바이트 고정 길이) */
+    public static String x(ECPublicKey key) {
+        return BASE64_URL.encodeToString(toFixedLength(key.getW().getAffineX()));
+    }
+
+    /** JWK y 좌표 (base64url, 32바이트 고정 길이) */
+    public static String y(ECPublicKey key) {
+        return BASE64_URL.encodeToString(toFixedLength(key.getW().getAffineY()));
+    }
+
+    /** RFC 7638 JWK thumbprint → kid 로 사용 */
+    public static String thumbprint(ECPublicKey key) {
+        String canonical = "{\"crv\":\"" + CURVE + "\",\"kty\":\"EC\",\"x\":\"" + x(key) + "\",\"y\":\"" + y(key) + "\"}";
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] toFixedLength(BigInteger value) {
+        byte[] bytes = value.toByteArray(); // 부호 바이트(0x00) 가 붙거나 앞자리 0 이 빠질 수 있음
+        if (bytes.length == COORDINATE_BYTES) {
+            return bytes;
+        }
+        byte[] fixed = new byte[COORDINATE_BYTES];
+        if (bytes.length > COORDINATE_BYTES) {
+            System.arraycopy(bytes, bytes.length - COORDINATE_BYTES, fixed, 0, COORDINATE_BYTES);
+        } else {
+            System.arraycopy(bytes, 0, fixed, COORDINATE_BYTES - bytes.length, bytes.length);
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,595 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.domain.user.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 고정 클레임(iss, iat, exp, sub, jti, id, role, userName, fid, typ / compact: v, id, r, n, f, typ) 전용 HS* JWT 인코더/디코더.
+ * jjwt 의 Map/Jackson/Date 를 거치지 않고 바이트 배열에 바로 쓰고 읽는다.
+ *  - 발급 토큰은 jjwt 결과와 바이트 단위로 같다 (헤더 typ, kid, alg 순서 / 클레임 삽입 순서 / Jackson 이스케이프 규칙)
+ *  - Mac 인스턴스는 키별 풀에서 재사용 (가상 스레드에서는 ThreadLocal 재사용이 안 되므로 풀 사용)
+ *  - 처리할 수 없는 형식(다른 헤더/클레임, 이스케이프 문자열, ES256 등)은 null 을 돌려주고 호출 측이 jjwt 로 처리
+ */
+public class HmacJwtCodec {
+
+    private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64URL_DECODE = new int[128];
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        Arrays.fill(BASE64URL_DECODE, -1);
+        for (int i = 0; i < BASE64URL.length; i++) {
+            BASE64URL_DECODE[BASE64URL[i]] = i;
+        }
+    }
+
+    private final JwtKeyring keyring;
+    private final ConcurrentHashMap<MacKey, MacPool> macPools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, byte[]> encodedHeaders = new ConcurrentHashMap<>();
+
+    public HmacJwtCodec(JwtKeyring keyring) {
+        this.keyring = keyring;
+    }
+
+    /** HMAC 키로 토큰 생성, 인코딩할 수 없는 값(짝 없는 surrogate 등)이면 null */
+    public String encode(JwtKeyring.KeyEntry key, String issuer, Instant issuedAt, Instant expiresAt,
+                         String subject, String tokenId, Long id, String role, String userName, String familyId) {
+        return encode(key, issuer, issuedAt, expiresAt, subject, tokenId, id, role, userName, familyId, null, false);
+    }
+
+    /**
+     * type 이 null 이면 typ 클레임 생략 (이전 버전 토큰 형식).
+     * compact = true 면 TokenProfile.COMPACT 형식 (TokenProvider 의 jjwt compact 발급과 같은 바이트)
+     */
+    public String encode(JwtKeyring.KeyEntry key, String issuer, Instant issuedAt, Instant expiresAt,
+                         String subject, String tokenId, Long id, String role, String userName, String familyId,
+                         TokenProvider.TokenType type, boolean compact) {
+        if (!key.isHmac()) {
+            return null;
+        }
+
+        // jjwt 와 같은 순서·생략 규칙 (iss/sub/jti 는 빈 문자열이면 생략, 나머지는 null 이면 생략)
+        JsonWriter json = new JsonWriter(128);
+        json.begin();
+        if (hasText(issuer)) json.field("iss", issuer);
+        json.field("iat", issuedAt.getEpochSecond());
+        json.field("exp", expiresAt.getEpochSecond());
+        if (hasText(subject)) json.field("sub", subject);
+        if (hasText(tokenId)) json.field("jti", tokenId);
+        if (compact) {
+            // Role 에 없는 역할은 코드 대신 기존 role 문자열로
+            Role roleCode = Role.fromName(role);
+            json.field(TokenProvider.VERSION_CLAIM, TokenProvider.COMPACT_VERSION);
+            if (id != null) json.field("id", id);
+            if (roleCode != null) json.field(TokenProvider.ROLE_CODE_CLAIM, roleCode.getCode());
+            else if (role != null) json.field("role", role);
+            if (userName != null) json.field(TokenProvider.COMPACT_USER_NAME_CLAIM, userName);
+            if (familyId != null) json.field(TokenProvider.COMPACT_FAMILY_ID_CLAIM, familyId);
+        } else {
+            if (id != null) json.field("id", id);
+            if (role != null) json.field("role", role);
+            if (userName != null) json.field("userName", userName);
+            if (familyId != null) json.field("fid", familyId);
+        }
+        if (type != null) json.field(TokenProvider.TOKEN_TYPE_CLAIM, type.claimValue());
+        json.end();
+        if (json.failed) {
+            return null;
+        }
+
+        MacPool pool = macPool(key.signingKey(), key.algorithm());
+        byte[] header = encodedHeader(key, compact);
+        int payloadStart = header.length + 1;
+        int signatureStart = payloadStart + base64Length(json.length) + 1;
+        byte[] out = new byte[signatureStart + base64Length(pool.macLength)];
+
+        System.arraycopy(header, 0, out, 0, header.length);
+        out[header.length] = '.';
+        encodeBase64(json.buf, json.length, out, payloadStart);
+        out[signatureStart - 1] = '.';
+        encodeBase64(pool.sign(out, signatureStart - 1), pool.macLength, out, signatureStart);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 서명·만료 검증 후 클레임 반환. 서명 불일치/만료는 jjwt 와 같은 예외를 던지고,
+     * 이 코덱이 판단할 수 없는 토큰이면 null (→ jjwt 로 다시 처리)
+     */
+    public TokenProvider.TokenClaims decode(String token, long nowMillis) {
+        TokenProvider.Verification verification = verify(token, nowMillis);
+        if (verification == null) {
+            return null;
+        }
+        return switch (verification.status()) {
+            case VALID -> verification.claims();
+            case EXPIRED -> throw new ExpiredJwtException(null, null,
+                    "JWT expired at " + verification.claims().exp() + ". Current time: " + Instant.ofEpochMilli(nowMillis));
+            default -> throw new SignatureException("JWT signature does not match locally computed signature.");
+        };
+    }
+
+    /**
+     * decode 와 같은 판정을 예외 없이 반환 (VALID / EXPIRED / INVALID, 폐기 여부는 보지 않음).
+     * 서명이 맞으면 EXPIRED 여도 클레임을 채운다. 이 코덱이 판단할 수 없는 토큰이면 null
+     */
+    public TokenProvider.Verification verify(String token, long nowMillis) {
+        int length = token.length();
+        int dot1 = token.indexOf('.');
+        int dot2 = dot1 < 0 ? -1 : token.indexOf('.', dot1 + 1);
+        if (dot1 <= 0 || dot2 < 0 || dot2 == length - 1 || token.indexOf('.', dot2 + 1) >= 0) {
+            return null;
+        }
+        byte[] raw = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            raw[i] = (byte) c;
+        }
+
+        Fields header = parse(decodeBase64(raw, 0, dot1), true);
+        if (header == null || header.alg == null) {
+            return null;
+        }
+        SignatureAlgorithm algorithm = switch (header.alg) {
+            case "HS256" -> SignatureAlgorithm.HS256;
+            case "HS384" -> SignatureAlgorithm.HS384;
+            case "HS512" -> SignatureAlgorithm.HS512;
+            default -> null;
+        };
+        JwtKeyring.KeyEntry key = algorithm != null ? keyring.find(header.kid) : null;
+        if (key == null || !key.isHmac()) {
+            return null;
+        }
+        MacPool pool = macPool(key.verificationKey(), algorithm);
+        byte[] provided = decodeBase64(raw, dot2 + 1, length);
+        if (pool.weak || provided == null) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(pool.sign(raw, dot2), provided)) {
+            return new TokenProvider.Verification(TokenProvider.TokenStatus.INVALID, null);
+        }
+
+        Fields claims = parse(decodeBase64(raw, dot1 + 1, dot2), false);
+        if (claims == null || claims.exp == null) {
+            return null;
+        }
+        String role = claims.role;
+        if (claims.version != null) {
+            // compact 형식: 모르는 버전/역할 코드는 jjwt 경로에서 판정
+            if (claims.version != TokenProvider.COMPACT_VERSION) {
+                return null;
+            }
+            if (claims.roleCode != null) {
+                Role known = Role.fromCode(claims.roleCode);
+                if (known == null) {
+                    return null;
+                }
+                role = known.name();
+            }
+        }
+        TokenProvider.TokenType type = null;
+        if (claims.type != null) {
+            type = TokenProvider.TokenType.fromClaim(claims.type);
+            if (type == null) {
+                return null;
+            }
+        }
+        TokenProvider.TokenClaims tokenClaims = new TokenProvider.TokenClaims(claims.sub, claims.id, role,
+                claims.userName, Instant.ofEpochSecond(claims.exp), claims.jti, claims.fid, type);
+        return new TokenProvider.Verification(
+                nowMillis > claims.exp * 1000 ? TokenProvider.TokenStatus.EXPIRED : TokenProvider.TokenStatus.VALID,
+                tokenClaims);
+    }
+
+    // ---------- 내부 유틸 ----------
+    private byte[] encodedHeader(JwtKeyring.KeyEntry key, boolean compact) {
+        return encodedHeaders.computeIfAbsent(key.kid() + '\n' + key.algorithm().getValue() + '\n' + compact, k -> {
+            JsonWriter json = new JsonWriter(64);
+            json.begin();
+            if (!compact) {
+                json.field("typ", "JWT");
+            }
+            json.field("kid", key.kid());
+            json.field("alg", key.algorithm().getValue());
+            json.end();
+            byte[] encoded = new byte[base64Length(json.length)];
+            encodeBase64(json.buf, json.length, encoded, 0);
+            return encoded;
+        });
+    }
+
+    private MacPool macPool(Key key, SignatureAlgorithm algorithm) {
+        return macPools.computeIfAbsent(new MacKey(key, algorithm), k -> new MacPool(key, algorithm));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static int base64Length(int bytes) {
+        return (bytes * 4 + 2) / 3;
+    }
+
+    private static void encodeBase64(byte[] src, int srcLength, byte[] dst, int dp) {
+        int sp = 0;
+        while (sp + 3 <= srcLength) {
+            int bits = (src[sp++] & 0xff) << 16 | (src[sp++] & 0xff) << 8 | (src[sp++] & 0xff);
+            dst[dp++] = BASE64URL[(bits >>> 18) & 0x3f];
+            dst[dp++] = BASE64URL[(bits >>> 12) & 0x3f];
+            dst[dp++] = BASE64URL[(bits >>> 6) & 0x3f];
+            dst[dp++] = BASE64URL[bits & 0x3f];
+        }
+        int remaining = srcLength - sp;
+        if (remaining > 0) {
+            int bits = (src[sp] & 0xff) << 16 | (remaining == 2 ? (src[sp + 1] & 0xff) << 8 : 0);
+            dst[dp++] = BASE64URL[(bits >>> 18) & 0x3f];
+            dst[dp++] = BASE64URL[(bits >>> 12) & 0x3f];
+            if (remaining == 2) {
+                dst[dp] = BASE64URL[(bits >>> 6) & 0x3f];
+            }
+        }
+    }
+
+    // 패딩 없는 base64url 만 허용, 그 외 문자가 있으면 null
+    private static byte[] decodeBase64(byte[] src, int from, int to) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return null;
+        }
+        byte[] out = new byte[length * 3 / 4];
+        int op = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int value = BASE64URL_DECODE[src[i]];
+            if (value < 0) {
+                return null;
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                out[op++] = (byte) (bits >>> 16);
+                out[op++] = (byte) (bits >>> 8);
+                out[op++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            out[op] = (byte) (bits >>> 4);
+        } else if (count == 3) {
+            out[op++] = (byte) (bits >>> 10);
+            out[op] = (byte) (bits >>> 2);
+        }
+        return out;
+    }
+
+    /**
+     * 평평한 JSON 객체 파싱 (문자열/정수 값만). 알 수 없는 키, 이스케이프 문자열, 실수 등은 null
+     */
+    private static Fields parse(byte[] json, boolean header) {
+        if (json == null) {
+            return null;
+        }
+        Fields fields = new Fields();
+        int[] pos = {skipWhitespace(json, 0)};
+        if (pos[0] >= json.length || json[pos[0]++] != '{') {
+            return null;
+        }
+        pos[0] = skipWhitespace(json, pos[0]);
+        if (pos[0] < json.length && json[pos[0]] == '}') {
+            pos[0]++;
+            return skipWhitespace(json, pos[0]) == json.length ? fields : null;
+        }
+        while (true) {
+            int keyStart = pos[0] + 1;
+            if (readString(json, pos) == null) {
+                return null;
+            }
+            int keyEnd = pos[0] - 1;
+            pos[0] = skipWhitespace(json, pos[0]);
+            if (pos[0] >= json.length || json[pos[0]++] != ':') {
+                return null;
+            }
+            pos[0] = skipWhitespace(json, pos[0]);
+            if (pos[0] >= json.length) {
+                return null;
+            }
+            if (!(header ? readHeaderField(json, keyStart, keyEnd, pos, fields)
+                         : readClaimField(json, keyStart, keyEnd, pos, fields))) {
+                return null;
+            }
+            pos[0] = skipWhitespace(json, pos[0]);
+            if (pos[0] >= json.length) {
+                return null;
+            }
+            byte next = json[pos[0]++];
+            if (next == '}') {
+                return skipWhitespace(json, pos[0]) == json.length ? fields : null;
+            }
+            if (next != ',') {
+                return null;
+            }
+            pos[0] = skipWhitespace(json, pos[0]);
+        }
+    }
+
+    private static boolean readHeaderField(byte[] json, int keyStart, int keyEnd, int[] pos, Fields fields) {
+        if (json[pos[0]] != '"') {
+            return false;
+        }
+        String value = readString(json, pos);
+        if (value == null) {
+            return false;
+        }
+        if (keyEquals(json, keyStart, keyEnd, "alg")) {
+            fields.alg = value;
+        } else if (keyEquals(json, keyStart, keyEnd, "kid")) {
+            fields.kid = value;
+        } else {
+            return keyEquals(json, keyStart, keyEnd, "typ");
+        }
+        return true;
+    }
+
+    private static boolean readClaimField(byte[] json, int keyStart, int keyEnd, int[] pos, Fields fields) {
+        if (json[pos[0]] == '"') {
+            String value = readString(json, pos);
+            if (value == null) {
+                return false;
+            }
+            if (keyEquals(json, keyStart, keyEnd, "sub")) {
+                fields.sub = value;
+            } else if (keyEquals(json, keyStart, keyEnd, "jti")) {
+                fields.jti = value;
+            } else if (keyEquals(json, keyStart, keyEnd, "role")) {
+                fields.role = value;
+            } else if (keyEquals(json, keyStart, keyEnd, "userName")
+                    || keyEquals(json, keyStart, keyEnd, TokenProvider.COMPACT_USER_NAME_CLAIM)) {
+                fields.userName = value;
+            } else if (keyEquals(json, keyStart, keyEnd, "fid")
+                    || keyEquals(json, keyStart, keyEnd, TokenProvider.COMPACT_FAMILY_ID_CLAIM)) {
+                fields.fid = value;
+            } else if (keyEquals(json, keyStart, keyEnd, TokenProvider.TOKEN_TYPE_CLAIM)) {
+                fields.type = value;
+            } else {
+                return keyEquals(json, keyStart, keyEnd, "iss");
+            }
+            return true;
+        }
+
+        Long value = readLong(json, pos);
+        if (value == null) {
+            return false;
+        }
+        if (keyEquals(json, keyStart, keyEnd, "exp")) {
+            fields.exp = value;
+        } else if (keyEquals(json, keyStart, keyEnd, "id")) {
+            fields.id = value;
+        } else if (keyEquals(json, keyStart, keyEnd, TokenProvider.VERSION_CLAIM)) {
+            fields.version = value;
+        } else if (keyEquals(json, keyStart, keyEnd, TokenProvider.ROLE_CODE_CLAIM)) {
+            fields.roleCode = value;
+        } else {
+            return keyEquals(json, keyStart, keyEnd, "iat");
+        }
+        return true;
+    }
+
+    // 이스케이프가 없는 문자열만 (있으면 null → jjwt 로 처리)
+    private static String readString(byte[] json, int[] pos) {
+        if (pos[0] >= json.length || json[pos[0]] != '"') {
+            return null;
+        }
+        int start = pos[0] + 1;
+        for (int i = start; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                pos[0] = i + 1;
+                return new String(json, start, i - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\' || (b >= 0 && b < 0x20)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Long readLong(byte[] json, int[] pos) {
+        int i = pos[0];
+        boolean negative = i < json.length && json[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int digitsStart = i;
+        long value = 0;
+        while (i < json.length && json[i] >= '0' && json[i] <= '9') {
+            if (i - digitsStart >= 18) {
+                return null;
+            }
+            value = value * 10 + (json[i++] - '0');
+        }
+        if (i == digitsStart || (i < json.length && (json[i] == '.' || json[i] == 'e' || json[i] == 'E'))) {
+            return null;
+        }
+        pos[0] = i;
+        return negative ? -value : value;
+    }
+
+    private static boolean keyEquals(byte[] json, int start, int end, String key) {
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (json[start + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos) {
+        while (pos < json.length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static final class Fields {
+        String alg;
+        String kid;
+        String sub;
+        String jti;
+        String role;
+        String userName;
+        String fid;
+        String type;
+        Long id;
+        Long exp;
+        Long version;  // compact 형식이면 v
+        Long roleCode; // compact 형식의 r
+    }
+
+    private record MacKey(Key key, SignatureAlgorithm algorithm) {}
+
+    /** 키·알고리즘별 Mac 풀 (doFinal 이 상태를 초기화하므로 반납 후 바로 재사용 가능) */
+    private static final class MacPool {
+        private final Key key;
+        private final String jcaName;
+        private final int macLength;
+        private final boolean weak; // jjwt 는 알고리즘보다 짧은 키를 거부하므로 그 경우는 jjwt 에 맡김
+        private final ConcurrentLinkedQueue<Mac> idle = new ConcurrentLinkedQueue<>();
+
+        MacPool(Key key, SignatureAlgorithm algorithm) {
+            this.key = key;
+            this.jcaName = algorithm.getJcaName();
+            this.macLength = algorithm.getMinKeyLength() / 8;
+            byte[] encoded = key.getEncoded();
+            this.weak = encoded == null || encoded.length * 8 < algorithm.getMinKeyLength();
+        }
+
+        byte[] sign(byte[] data, int length) {
+            Mac mac = idle.poll();
+            try {
+                if (mac == null) {
+                    mac = Mac.getInstance(jcaName);
+                    mac.init(key);
+                }
+                mac.update(data, 0, length);
+                return mac.doFinal();
+            } catch (GeneralSecurityException e) {
+                throw new SignatureException("Unable to compute " + jcaName + " signature", e);
+            } finally {
+                if (mac != null) {
+                    idle.offer(mac);
+                }
+            }
+        }
+    }
+
+    /** Jackson 과 같은 규칙으로 이스케이프하는 JSON 바이트 작성기 */
+    private static final class JsonWriter {
+        private byte[] buf;
+        private int length;
+        private boolean failed;
+        private boolean first = true;
+
+        JsonWriter(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void begin() {
+            write('{');
+        }
+
+        void end() {
+            write('}');
+        }
+
+        void field(String name, String value) {
+            name(name);
+            string(value);
+        }
+
+        void field(String name, long value) {
+            name(name);
+            String digits = Long.toString(value);
+            for (int i = 0; i < digits.length(); i++) {
+                write(digits.charAt(i));
+            }
+        }
+
+        private void name(String name) {
+            if (!first) {
+                write(',');
+            }
+            first = false;
+            string(name);
+            write(':');
+        }
+
+        private void string(String value) {
+            write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    switch (c) {
+                        case '"' -> { write('\\'); write('"'); }
+                        case '\\' -> { write('\\'); write('\\'); }
+                        case '\b' -> { write('\\'); write('b'); }
+                        case '\t' -> { write('\\'); write('t'); }
+                        case '\f' -> { write('\\'); write('f'); }
+                        case '\n' -> { write('\\'); write('n'); }
+                        case '\r' -> { write('\\'); write('r'); }
+                        default -> {
+                            if (c < 0x20) {
+                                write('\\'); write('u'); write('0'); write('0');
+                                write(HEX[c >> 4]); write(HEX[c & 0xf]);
+                            } else {
+                                write(c);
+                            }
+                        }
+                    }
+                } else if (c < 0x800) {
+                    write(0xc0 | (c >> 6));
+                    write(0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    write(0xf0 | (cp >> 18));
+                    write(0x80 | ((cp >> 12) & 0x3f));
+                    write(0x80 | ((cp >> 6) & 0x3f));
+                    write(0x80 | (cp & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    failed = true; // Jackson 도 직렬화에 실패하는 입력
+                } else {
+                    write(0xe0 | (c >> 12));
+                    write(0x80 | ((c >> 6) & 0x3f));
+                    write(0x80 | (c & 0x3f));
+                }
+            }
+            write('"');
+        }
+
+        private void write(int b) {
+            if (length == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            buf[length++] = (byte) b;
+        }
+    }
+}
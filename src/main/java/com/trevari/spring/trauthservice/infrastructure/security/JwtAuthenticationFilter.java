@@ -0,0 +1,70 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer 토큰으로 요청마다 인증 (세션/DB 조회 없음).
+ * TokenProvider.verify 한 번으로 판정하고 클레임(userId, id, role)만으로 Authentication 을 만든다.
+ * 유효하지 않은 토큰과 리프레시 토큰(typ=rt, 또는 typ 도입 이전의 fid 있는 토큰)은 인증하지 않고 넘겨 인가 단계(401)에 맡긴다.
+ * 컨텍스트는 이 요청 동안만 쓰이고 저장하지 않으므로(NullSecurityContextRepository) 빈으로 등록하지 않고 SecurityConfig 에서 체인에만 추가한다.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+    private final SecurityContextHolderStrategy contextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    public JwtAuthenticationFilter(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            TokenProvider.Verification verification = tokenProvider.verify(authorization.substring(BEARER_PREFIX.length()));
+            if (verification.isValid() && isAccessToken(verification.claims())) {
+                SecurityContext context = contextHolderStrategy.createEmptyContext();
+                context.setAuthentication(authentication(verification.claims()));
+                contextHolderStrategy.setContext(context);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    // 리프레시 토큰은 재발급에만 쓰임 (수명이 길어 API 인증에 받으면 탈취 피해가 커짐)
+    private static boolean isAccessToken(TokenProvider.TokenClaims claims) {
+        if (claims.type() != null) {
+            return claims.type() == TokenProvider.TokenType.ACCESS;
+        }
+        return claims.familyId() == null;
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(TokenProvider.TokenClaims claims) {
+        List<GrantedAuthority> authorities = claims.role() != null
+                ? List.of(new SimpleGrantedAuthority(claims.role()))
+                : List.of();
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .id(claims.id())
+                .userId(claims.userId())
+                .authorities(authorities)
+                .build();
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+    }
+}
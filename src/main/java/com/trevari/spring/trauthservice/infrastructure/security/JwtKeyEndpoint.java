@@ -0,0 +1,57 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 키 링 운영용 actuator 엔드포인트 (/actuator/jwtkeys, ROLE_ADMIN 전용).
+ *  - GET    : 키 목록 (kid / 알고리즘 / 상태, 키 값은 노출하지 않음)
+ *  - POST   : 키 회전 (새 키 active, 기존 active → retiring), secret 또는 EC 키 쌍 필수 (없으면 400)
+ *  - DELETE : /{kid} retiring 키 폐기 (해당 키로 서명된 토큰의 최대 TTL 이 지난 뒤 호출)
+ * 변경은 호출을 받은 노드에만, 재기동 전까지만 유효하다 → 같은 호출을 모든 노드에 보내고 jwt.keys 에도 반영할 것.
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeyEndpoint {
+
+    private final TokenProvider tokenProvider;
+
+    @ReadOperation
+    public List<KeyView> keys() {
+        return tokenProvider.keys().stream()
+                .map(KeyView::from)
+                .toList();
+    }
+
+    @WriteOperation
+    public KeyView rotate(@Nullable String kid, @Nullable String secret,
+                          @Nullable String ecPrivateKey, @Nullable String ecPublicKey) {
+        try {
+            return KeyView.from(tokenProvider.rotateKey(kid, secret, ecPrivateKey, ecPublicKey));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public boolean retire(@Selector String kid) {
+        return tokenProvider.retireKey(kid);
+    }
+
+    public record KeyView(String kid, String algorithm, JwtKeyring.KeyStatus status, Instant createdAt) {
+        static KeyView from(JwtKeyring.KeyEntry key) {
+            return new KeyView(key.kid(), key.algorithm().getValue(), key.status(), key.createdAt());
+        }
+    }
+}
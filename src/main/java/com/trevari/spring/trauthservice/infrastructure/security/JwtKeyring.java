@@ -0,0 +1,140 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 서명 키 링 (active 1개 + retiring N개).
+ * 검증 시 토큰 헤더의 kid 로 HashMap 에서 바로 키를 찾고(순차 시도 없음), kid 가 없는 과거 토큰은 legacy 키 하나로만 검증한다.
+ * 읽기는 불변 스냅샷(volatile) 으로 락 없이, 회전/폐기는 스냅샷을 새로 만들어 교체한다.
+ */
+public class JwtKeyring {
+
+    public enum KeyStatus { ACTIVE, RETIRING }
+
+    public record KeyEntry(
+            String kid,
+            SignatureAlgorithm algorithm,
+            Key signingKey,
+            Key verificationKey,
+            KeyStatus status,
+            Instant createdAt
+    ) {
+        public boolean isHmac() {
+            return algorithm.isHmac();
+        }
+
+        /** 토큰 헤더의 alg 가 이 키로 검증 가능한 알고리즘인지 (HMAC 키는 HS* 전체 허용) */
+        public boolean supports(SignatureAlgorithm headerAlgorithm) {
+            return isHmac() ? headerAlgorithm.isHmac() : headerAlgorithm == algorithm;
+        }
+
+        KeyEntry withStatus(KeyStatus newStatus) {
+            return new KeyEntry(kid, algorithm, signingKey, verificationKey, newStatus, createdAt);
+        }
+    }
+
+    private record Snapshot(KeyEntry active, Map<String, KeyEntry> byKid, String legacyKid) {}
+
+    private volatile Snapshot snapshot;
+
+    /** keys 의 첫 번째가 active, 나머지는 retiring. legacyKid = kid 헤더 없는 토큰을 검증할 키 (없으면 null) */
+    public JwtKeyring(List<KeyEntry> keys, String legacyKid) {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("at least one JWT signing key is required");
+        }
+        Map<String, KeyEntry> byKid = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            KeyEntry key = keys.get(i).withStatus(i == 0 ? KeyStatus.ACTIVE : KeyStatus.RETIRING);
+            if (byKid.putIfAbsent(key.kid(), key) != null) {
+                throw new IllegalStateException("duplicate JWT key id: " + key.kid());
+            }
+        }
+        this.snapshot = new Snapshot(byKid.get(keys.get(0).kid()), Map.copyOf(byKid), legacyKid);
+    }
+
+    public KeyEntry active() {
+        return snapshot.active();
+    }
+
+    /** kid 로 검증 키 조회 (kid 가 null 이면 legacy 키), 없으면 null */
+    public KeyEntry find(String kid) {
+        Snapshot current = snapshot;
+        String lookup = kid != null ? kid : current.legacyKid();
+        return lookup != null ? current.byKid().get(lookup) : null;
+    }
+
+    public Collection<KeyEntry> entries() {
+        return snapshot.byKid().values();
+    }
+
+    /** 새 키를 active 로, 기존 active 는 retiring 으로 (기존 토큰은 만료 전까지 계속 검증됨) */
+    public synchronized void rotate(KeyEntry newActive) {
+        Snapshot current = snapshot;
+        if (current.byKid().containsKey(newActive.kid())) {
+            throw new IllegalArgumentException("JWT key id already exists: " + newActive.kid());
+        }
+        Map<String, KeyEntry> byKid = new HashMap<>(current.byKid());
+        byKid.put(current.active().kid(), current.active().withStatus(KeyStatus.RETIRING));
+        KeyEntry active = newActive.withStatus(KeyStatus.ACTIVE);
+        byKid.put(active.kid(), active);
+        this.snapshot = new Snapshot(active, Map.copyOf(byKid), current.legacyKid());
+    }
+
+    /** retiring 키 제거 (이 키로 서명된 토큰은 이후 INVALID), active 키는 제거 불가 */
+    public synchronized boolean remove(String kid) {
+        Snapshot current = snapshot;
+        if (current.active().kid().equals(kid)) {
+            throw new IllegalArgumentException("cannot remove the active JWT key: " + kid);
+        }
+        if (!current.byKid().containsKey(kid)) {
+            return false;
+        }
+        Map<String, KeyEntry> byKid = new HashMap<>(current.byKid());
+        byKid.remove(kid);
+        String legacyKid = kid.equals(current.legacyKid()) ? null : current.legacyKid();
+        this.snapshot = new Snapshot(current.active(), Map.copyOf(byKid), legacyKid);
+        return true;
+    }
+
+    // ---------- 키 생성 ----------
+
+    /** HMAC 키 (secret 이 Base64 라면 decode, 아니면 bytes 그대로), kid 미지정 시 키 다이제스트로 파생 */
+    public static KeyEntry hmac(String kid, SignatureAlgorithm algorithm, String secret, Instant now) {
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException e) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        String resolvedKid = kid != null ? kid : "hs-" + digestPrefix(keyBytes);
+        return new KeyEntry(resolvedKid, algorithm, key, key, KeyStatus.RETIRING, now);
+    }
+
+    /** ES256 키, kid 미지정 시 RFC 7638 thumbprint */
+    public static KeyEntry ec(String kid, KeyPair keyPair, Instant now) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        String resolvedKid = kid != null ? kid : EcKeys.thumbprint(publicKey);
+        return new KeyEntry(resolvedKid, SignatureAlgorithm.ES256, keyPair.getPrivate(), publicKey, KeyStatus.RETIRING, now);
+    }
+
+    private static String digestPrefix(byte[] keyBytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
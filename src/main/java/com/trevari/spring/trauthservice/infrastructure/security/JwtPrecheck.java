@@ -0,0 +1,199 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 서명 검증 전에 끝낼 수 있는 판정 (예외 없이 결과만 반환).
+ *  - 구조: 길이 상한, 점 2개, 빈 세그먼트, base64url 외 문자
+ *  - 헤더: alg/kid 로 검증 키를 찾을 수 없으면 거절 (jjwt 의 verificationKey 와 같은 기준)
+ *  - exp: 서명 확인 없이 만료 여부만 먼저 본다. 위조 토큰도 만료로 보고될 수 있지만 어느 쪽이든 VALID 는 아님
+ * 이스케이프 등 여기서 확실히 판단할 수 없는 형식은 통과시키고 서명 검증 단계(jjwt/전용 코덱)에 맡긴다.
+ */
+final class JwtPrecheck {
+
+    private static final Object ABSENT = new Object();
+
+    private JwtPrecheck() {
+    }
+
+    static boolean wellFormed(String token, int maxLength) {
+        int length = token.length();
+        if (length == 0 || length > maxLength) {
+            return false;
+        }
+        int dots = 0;
+        int segmentStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (++dots > 2 || !validSegment(i - segmentStart)) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+        }
+        return dots == 2 && validSegment(length - segmentStart);
+    }
+
+    /** 헤더/exp 단계 판정, 통과하면 null (wellFormed 를 통과한 토큰만) */
+    static TokenProvider.RejectionStage beforeSignature(String token, JwtKeyring keyring, long nowMillis) {
+        int dot1 = token.indexOf('.');
+        int dot2 = token.indexOf('.', dot1 + 1);
+
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, dot1));
+        if (!hasVerificationKey(header, keyring)) {
+            return TokenProvider.RejectionStage.HEADER;
+        }
+
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(dot1 + 1, dot2));
+        if (topLevel(payload, "exp") instanceof Long exp
+                && exp < Long.MAX_VALUE / 1000 && nowMillis > exp * 1000) {
+            return TokenProvider.RejectionStage.EXPIRY;
+        }
+        return null;
+    }
+
+    // ---------- 내부 유틸 ----------
+
+    // false = 검증 키 없음 확정 (이스케이프가 섞였거나 alg 를 읽을 수 없는 헤더는 true 로 넘김)
+    private static boolean hasVerificationKey(byte[] header, JwtKeyring keyring) {
+        for (byte b : header) {
+            if (b == '\\') {
+                return true;
+            }
+        }
+        if (!(topLevel(header, "alg") instanceof String alg)) {
+            return true;
+        }
+        Object kid = topLevel(header, "kid");
+        if (kid != ABSENT && !(kid instanceof String)) {
+            return true;
+        }
+        SignatureAlgorithm algorithm = algorithm(alg);
+        JwtKeyring.KeyEntry key = algorithm != null ? keyring.find(kid instanceof String s ? s : null) : null;
+        return key != null && key.supports(algorithm);
+    }
+
+    private static SignatureAlgorithm algorithm(String name) {
+        for (SignatureAlgorithm algorithm : SignatureAlgorithm.values()) {
+            if (algorithm != SignatureAlgorithm.NONE && algorithm.getValue().equals(name)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 최상위 객체의 key 값 (이스케이프 없는 문자열 → String, 정수 → Long).
+     * 키가 없으면 ABSENT, 그 밖의 값이거나 JSON 으로 읽을 수 없으면 null
+     */
+    private static Object topLevel(byte[] json, String key) {
+        int depth = 0;
+        boolean expectKey = false;
+        for (int i = 0; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '{' || b == '[') {
+                depth++;
+                expectKey = b == '{' && depth == 1;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            } else if (b == ',') {
+                expectKey = depth == 1;
+            } else if (b == '"') {
+                int end = stringEnd(json, i);
+                if (end < 0) {
+                    return null;
+                }
+                if (expectKey && depth == 1) {
+                    expectKey = false;
+                    if (rawEquals(json, i + 1, end, key)) {
+                        int v = skipWhitespace(json, end + 1);
+                        if (v >= json.length || json[v] != ':') {
+                            return null;
+                        }
+                        return value(json, skipWhitespace(json, v + 1));
+                    }
+                }
+                i = end;
+            }
+        }
+        return ABSENT;
+    }
+
+    private static Object value(byte[] json, int pos) {
+        if (pos >= json.length) {
+            return null;
+        }
+        if (json[pos] == '"') {
+            int end = stringEnd(json, pos);
+            for (int i = pos + 1; i < end; i++) {
+                if (json[i] == '\\') {
+                    return null;
+                }
+            }
+            return end < 0 ? null : new String(json, pos + 1, end - pos - 1, StandardCharsets.UTF_8);
+        }
+        int i = pos;
+        boolean negative = json[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int digitsStart = i;
+        long value = 0;
+        while (i < json.length && json[i] >= '0' && json[i] <= '9') {
+            if (i - digitsStart >= 18) {
+                return null;
+            }
+            value = value * 10 + (json[i++] - '0');
+        }
+        if (i == digitsStart || (i < json.length && (json[i] == '.' || json[i] == 'e' || json[i] == 'E'))) {
+            return null;
+        }
+        return negative ? -value : value;
+    }
+
+    // 닫는 따옴표 위치 (이스케이프 건너뜀), 없으면 -1
+    private static int stringEnd(byte[] json, int openQuote) {
+        for (int i = openQuote + 1; i < json.length; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean rawEquals(byte[] json, int start, int end, String key) {
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (json[start + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos) {
+        while (pos < json.length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    // 패딩 없는 base64url 세그먼트 길이 (4n+1 은 디코딩 불가)
+    private static boolean validSegment(int length) {
+        return length > 0 && length % 4 != 1;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
@@ -1,15 +1,88 @@
 package com.trevari.spring.trauthservice.infrastructure.security;
 
+import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
 @ConfigurationProperties("jwt")
 public class JwtProperties {
     private String issuer;
-    private String secret;
+    private String secret;                                  // HMAC 키 (ES256 모드에서도 기존 HS512 토큰 검증용으로 유지 가능)
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.HS512; // HS256/384/512 또는 ES256
+    private String ecPrivateKey;                            // ES256: Base64(PKCS#8)
+    private String ecPublicKey;                             // ES256: Base64(X.509)
+    private List<SigningKey> keys = new ArrayList<>();             // 키 링 (첫 번째 active, 나머지 retiring), 위 단일 키 설정은 legacy 로 함께 등록
+    private Codec codec = Codec.JJWT;                       // FAST: HS* 토큰을 전용 코덱으로 발급/검증 (그 외는 jjwt)
+    private TokenProfile profile = TokenProfile.STANDARD;   // 발급 형식 (검증은 두 형식 모두 허용)
+    private int maxTokenLength = 8192;                      // 이보다 긴 토큰은 디코딩 없이 INVALID
+    private final Cache cache = new Cache();
+    private final NegativeCache negativeCache = new NegativeCache();
+    private final Revocation revocation = new Revocation();
+    private final RejectionLog rejectionLog = new RejectionLog();
+
+    public enum Codec { JJWT, FAST }
+
+    /**
+     * STANDARD: 기존 형식 (typ 헤더, role/userName/fid 클레임)
+     * COMPACT: typ 헤더 생략, 버전 표시 v=1, role → r(Role 코드), userName → n, fid → f
+     * 서명 알고리즘은 별도로 jwt.algorithm(또는 keys[].algorithm) 을 HS256 으로 낮춰 서명 길이를 줄일 수 있다
+     */
+    public enum TokenProfile { STANDARD, COMPACT }
+
+    /** 키 링 항목 (kid 미지정 시 HMAC 은 키 다이제스트, ES256 은 thumbprint 로 파생) */
+    @Getter
+    @Setter
+    public static class SigningKey {
+        private String kid;
+        private SignatureAlgorithm algorithm = SignatureAlgorithm.HS512;
+        private String secret;
+        private String ecPrivateKey;
+        private String ecPublicKey;
+    }
+
+    /** 검증 완료 클레임 캐시 설정 */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+    }
+
+    /** 서명 검증에 실패한 토큰 캐시 설정 (같은 위조 토큰 반복 시 HMAC 재계산 생략) */
+    @Getter
+    @Setter
+    public static class NegativeCache {
+        private boolean enabled = true;
+        private int maxEntries = 4_096;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /** 토큰 거절 로그 샘플링 (구간마다 max-per-interval 건만 INFO, 나머지는 요약 건수로) */
+    @Getter
+    @Setter
+    public static class RejectionLog {
+        private int maxPerInterval = 10;
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    /** 로그아웃 등으로 폐기된 토큰(jti) 목록 설정 */
+    @Getter
+    @Setter
+    public static class Revocation {
+        private long expectedInsertions = 1_000_000; // Bloom 필터 크기 기준 (초과 시 자동 확장)
+        private double falsePositiveRate = 0.001;
+        private Duration syncInterval = Duration.ofSeconds(5);  // 다른 노드의 폐기 내역 조회 주기
+        private Duration sweepInterval = Duration.ofMinutes(1);
+        private int sweepBatchSize = 1_000;          // DB 만료 행 1회 삭제 건수
+        private boolean loadOnStartup = true;        // false 는 DB 없이 기동하는 AppCDS 학습 실행용 (첫 sync 에서 전체 적재)
+    }
 }
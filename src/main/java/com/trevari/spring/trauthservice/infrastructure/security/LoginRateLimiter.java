@@ -0,0 +1,222 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.exception.LoginThrottledException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 로그인 시도 제한 (아이디별 + IP 별 토큰 버킷). AuthenticationManager(BCrypt) 호출 전에 거절해 해싱 CPU 를 보호한다.
+ *  - 키를 해시로 나눈 스트라이프마다 락 + LRU 맵 → 서로 다른 키끼리는 경합하지 않음
+ *  - 아이디별 연속 실패가 failure-threshold 를 넘으면 backoff-base 부터 두 배씩 (backoff-max 까지) 차단, 성공 시 초기화
+ *  - IP 는 여러 사용자가 공유할 수 있으므로(NAT) 버킷 한도만 적용
+ *  - idle-ttl 동안 쓰이지 않은 키와 max-keys 초과분은 가장 오래 쓰지 않은 것부터 제거
+ *    단, max-keys 초과분은 실패 기록이 없는 키부터 지우고, 차단 중인 키는 blockedUntil 이 지날 때까지 남긴다
+ *    (새 아이디를 대량으로 시도해 차단/실패 기록을 밀어내는 우회 방지)
+ */
+@Component
+public class LoginRateLimiter {
+
+    public enum KeyType { USER, IP }
+
+    private static final int STRIPES = 64;
+    private static final int STRIPE_SHIFT = 32 - Integer.numberOfTrailingZeros(STRIPES);
+
+    private final LoginThrottleProperties props;
+    private final Stripe[] userStripes = newStripes();
+    private final Stripe[] ipStripes = newStripes();
+    private final Map<KeyType, LongAdder> rejections = new EnumMap<>(KeyType.class);
+
+    public LoginRateLimiter(LoginThrottleProperties props) {
+        this.props = props;
+        for (KeyType type : KeyType.values()) {
+            rejections.put(type, new LongAdder());
+        }
+    }
+
+    /** 시도 1회 차감, 한도 초과/차단 중이면 LoginThrottledException */
+    public void acquire(String userId, String clientIp) {
+        if (!props.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            acquire(KeyType.IP, ipStripes, clientIp, props.getIp(), now);
+        }
+        if (userId != null) {
+            acquire(KeyType.USER, userStripes, userId, props.getUser(), now);
+        }
+    }
+
+    public void onSuccess(String userId) {
+        if (!props.isEnabled() || userId == null) {
+            return;
+        }
+        Stripe stripe = stripe(userStripes, userId);
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(userId);
+            if (bucket != null) {
+                bucket.failures = 0;
+                bucket.blockedUntil = 0;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void onFailure(String userId) {
+        if (!props.isEnabled() || userId == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Stripe stripe = stripe(userStripes, userId);
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.computeIfAbsent(userId, k -> new Bucket(props.getUser().getCapacity(), now));
+            bucket.failures++;
+            int over = bucket.failures - props.getFailureThreshold();
+            if (over > 0) {
+                long max = props.getBackoffMax().toNanos();
+                long backoff = props.getBackoffBase().toNanos();
+                for (int i = 1; i < over && backoff < max; i++) {
+                    backoff *= 2;
+                }
+                bucket.blockedUntil = now + Math.min(backoff, max);
+            }
+            bucket.lastSeen = now;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public long rejections(KeyType type) {
+        return rejections.get(type).sum();
+    }
+
+    public int trackedKeys() {
+        int count = 0;
+        for (Stripe[] stripes : new Stripe[][]{userStripes, ipStripes}) {
+            for (Stripe stripe : stripes) {
+                stripe.lock.lock();
+                try {
+                    count += stripe.buckets.size();
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+        return count;
+    }
+
+    // ---------- 내부 유틸 ----------
+    private void acquire(KeyType type, Stripe[] stripes, String key, LoginThrottleProperties.Limit limit, long now) {
+        Stripe stripe = stripe(stripes, key);
+        long waitNanos;
+        stripe.lock.lock();
+        try {
+            evictIdle(stripe, now);
+            Bucket bucket = stripe.buckets.computeIfAbsent(key, k -> new Bucket(limit.getCapacity(), now));
+            waitNanos = bucket.tryConsume(now, limit);
+            evictOverflow(stripe, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (waitNanos > 0) {
+            rejections.get(type).increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfter);
+        }
+    }
+
+    private void evictIdle(Stripe stripe, long now) {
+        long idleNanos = props.getIdleTtl().toNanos();
+        Iterator<Bucket> it = stripe.buckets.values().iterator();
+        while (it.hasNext()) {
+            Bucket eldest = it.next();
+            if (now - eldest.lastSeen < idleNanos) {
+                return; // access-order 이므로 이후 항목은 모두 더 최근
+            }
+            if (!eldest.isBlocked(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    // 실패 기록 없는 키 → 차단이 끝난 실패 키 순으로 제거, 차단 중인 키는 남김
+    private void evictOverflow(Stripe stripe, long now) {
+        int maxPerStripe = Math.max(1, props.getMaxKeys() / (STRIPES * 2));
+        evictOverflow(stripe, maxPerStripe, bucket -> bucket.failures == 0 && !bucket.isBlocked(now));
+        evictOverflow(stripe, maxPerStripe, bucket -> !bucket.isBlocked(now));
+    }
+
+    private static void evictOverflow(Stripe stripe, int maxPerStripe, Predicate<Bucket> evictable) {
+        Iterator<Bucket> it = stripe.buckets.values().iterator();
+        while (stripe.buckets.size() > maxPerStripe && it.hasNext()) {
+            if (evictable.test(it.next())) {
+                it.remove();
+            }
+        }
+    }
+
+    // 스트라이프는 해시 상위 비트로 고름 (하위 비트는 스트라이프 안 LinkedHashMap 의 버킷 인덱스와 겹침)
+    private static Stripe stripe(Stripe[] stripes, String key) {
+        return stripes[(key.hashCode() * 0x9E3779B9) >>> STRIPE_SHIFT];
+    }
+
+    private static Stripe[] newStripes() {
+        Stripe[] stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** 스트라이프 락 안에서만 접근 */
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private long lastSeen;
+        private int failures;
+        private long blockedUntil;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+            this.lastSeen = now;
+        }
+
+        /** 토큰 1개 소비, 불가하면 다음 시도까지 남은 나노초 */
+        long tryConsume(long now, LoginThrottleProperties.Limit limit) {
+            lastSeen = now;
+            if (isBlocked(now)) {
+                return blockedUntil - now;
+            }
+            double nanosPerToken = (double) limit.getRefillPeriod().toNanos() / limit.getCapacity();
+            tokens = Math.min(limit.getCapacity(), tokens + (now - refilledAt) / nanosPerToken);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * nanosPerToken);
+        }
+
+        boolean isBlocked(long now) {
+            return blockedUntil != 0 && now - blockedUntil < 0;
+        }
+    }
+}
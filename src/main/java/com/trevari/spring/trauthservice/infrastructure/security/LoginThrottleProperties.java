@@ -0,0 +1,36 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("login-throttle")
+public class LoginThrottleProperties {
+    private boolean enabled = true;
+    private final Limit user = new Limit(5, Duration.ofMinutes(1));  // 아이디별: 버스트 5회, 분당 5회 회복
+    private final Limit ip = new Limit(20, Duration.ofMinutes(1));   // IP 별: 버스트 20회, 분당 20회 회복
+    private int failureThreshold = 3;                  // 연속 실패가 이 횟수를 넘으면 backoff 시작
+    private Duration backoffBase = Duration.ofSeconds(1);
+    private Duration backoffMax = Duration.ofMinutes(15);
+    private Duration idleTtl = Duration.ofMinutes(30); // 이 시간 동안 시도가 없던 키는 제거
+    private int maxKeys = 100_000;                     // 메모리 상한 (초과 시 가장 오래 쓰지 않은 키부터 제거)
+
+    /** 토큰 버킷: capacity 만큼 연속 시도 가능, refillPeriod 동안 capacity 만큼 회복 */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private Duration refillPeriod;
+
+        public Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 전용 벌크헤드.
+ * 코어 수 크기의 플랫폼 스레드풀 + 제한된 대기열로 해싱 CPU 사용량을 가두고,
+ * 대기열이 가득 차면 기다리지 않고 바로 거절한다(→ 429). 호출 측(가상 스레드)은 결과를 기다리며 블로킹된다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final Timer waitTimer;  // 대기열에서 기다린 시간
+    private final Timer hashTimer;  // 실제 BCrypt 수행 시간
+
+    public PasswordHashingExecutor(PasswordHashingProperties props, MeterRegistry registry) {
+        int poolSize = props.resolvedPoolSize();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "password-hashing-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.waitTimer = Timer.builder("auth.password.hash.wait").register(registry);
+        this.hashTimer = Timer.builder("auth.password.hash").register(registry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        FunctionCounter.builder("auth.password.hash.rejected", rejected, LongAdder::sum).register(registry);
+    }
+
+    /** 해싱 작업을 전용 풀에서 실행하고 결과를 기다림 (포화 시 HashingCapacityExceededException) */
+    public <T> T call(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingCapacityExceededException("password hashing capacity exceeded");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                executor.getMaximumPoolSize(),
+                executor.getCompletedTaskCount(),
+                rejected.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 대기열 깊이, 실행 중 작업 수 등 (대기/수행 시간 분포는 auth.password.hash[.wait] 타이머) */
+    public record Stats(int queueDepth, int active, int poolSize, long completed, long rejected) {}
+}
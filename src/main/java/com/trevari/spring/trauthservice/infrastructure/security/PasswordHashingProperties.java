@@ -0,0 +1,32 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("password-hashing")
+public class PasswordHashingProperties {
+    private int poolSize = 0;        // 0 이하 → CPU 코어 수
+    private int queueCapacity = 64;  // 대기열 초과 시 즉시 거절(429)
+    private int bulkPoolSize = 0;    // 대량 이관 전용 풀, 0 이하 → CPU 코어 수
+
+    private int strength = 10;           // BCrypt cost (보정 비활성 시 그대로 사용)
+    private Duration targetLatency;      // 설정 시 기동 시점에 이 시간 안에 끝나는 최대 cost 로 보정
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    private boolean allowDowngrade = false; // true 면 현재 cost 보다 높은 해시도 로그인 시 낮춰 재해싱 (노드별 보정과 함께 쓰지 말 것)
+
+    public int resolvedPoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int resolvedBulkPoolSize() {
+        return bulkPoolSize > 0 ? bulkPoolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
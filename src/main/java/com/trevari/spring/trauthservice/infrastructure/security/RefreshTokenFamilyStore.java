@@ -0,0 +1,115 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamily;
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamilyRepository;
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리프레시 토큰 패밀리 저장소 (DB 가 기준, 메모리에는 폐기된 패밀리만).
+ *  - 시작/회전/폐기는 바로 DB 에 기록 (write-through), 회전은 current_token_id 조건부 UPDATE 로 판정
+ *    → 여러 노드가 같은 패밀리를 다뤄도 한 번만 회전되고, 재기동 시 잃는 회전이 없음
+ *  - 조건이 맞지 않으면 primary 에서 다시 읽어 폐기/만료/재사용을 구분 (재사용이면 패밀리 전체 폐기)
+ *  - 폐기된 패밀리는 DB 조회 없이 거절하도록 크기 제한(max-cached-families) 캐시에 패밀리 만료 시각까지 보관
+ *    (폐기는 되돌릴 수 없으므로 다른 노드와 어긋날 일이 없고, 밀려난 패밀리는 다음 회전 때 DB 에서 다시 판정됨)
+ */
+@Slf4j
+@Component
+public class RefreshTokenFamilyStore {
+
+    public enum RotationResult { ROTATED, REUSE_DETECTED, REVOKED, UNKNOWN }
+
+    private final RefreshTokenFamilyRepository repository;
+    private final RefreshTokenProperties props;
+    private final Clock clock = Clock.systemUTC();
+
+    private final BoundedExpiringCache<String, Boolean> revokedFamilies;
+    private final LongAdder reuseDetected = new LongAdder();
+
+    public RefreshTokenFamilyStore(RefreshTokenFamilyRepository repository, RefreshTokenProperties props) {
+        this.repository = repository;
+        this.props = props;
+        this.revokedFamilies = new BoundedExpiringCache<>(props.getMaxCachedFamilies(), clock);
+    }
+
+    /** 로그인 시 새 패밀리 등록 */
+    public void startFamily(String familyId, String userId, String tokenId, Instant expiresAt) {
+        RefreshTokenFamily family = RefreshTokenFamily.start(familyId, userId, tokenId, expiresAt);
+        repository.insert(family);
+    }
+
+    /**
+     * 제출된 토큰이 패밀리의 현재 토큰이면 새 토큰으로 교체, 이미 교체된 토큰이면 패밀리 전체 폐기.
+     * 판정은 항상 DB 기준 (다른 노드에서 회전·폐기된 상태도 반영됨).
+     */
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Instant newExpiresAt) {
+        if (revokedFamilies.get(familyId) != null) {
+            return RotationResult.REVOKED;
+        }
+
+        Instant now = clock.instant();
+        if (repository.rotate(familyId, presentedTokenId, newTokenId, newExpiresAt, now)) {
+            return RotationResult.ROTATED;
+        }
+
+        // 조건 불일치 → 최신 상태를 읽어 원인 구분
+        RefreshTokenFamily current = repository.findById(familyId).orElse(null);
+        if (current == null || current.isExpired(now)) {
+            return RotationResult.UNKNOWN;
+        }
+        if (current.isRevoked()) {
+            rememberRevoked(current);
+            return RotationResult.REVOKED;
+        }
+        if (current.getCurrentTokenId().equals(presentedTokenId)) {
+            // 만료 경계 등 드문 경우 → 재사용으로 보지 않고 실패만
+            return RotationResult.UNKNOWN;
+        }
+
+        repository.revoke(familyId);
+        rememberRevoked(current);
+        reuseDetected.increment();
+        log.warn("Refresh token reuse detected, family revoked: familyId={}, userId={}", familyId, current.getUserId());
+        return RotationResult.REUSE_DETECTED;
+    }
+
+    /** 패밀리 폐기 (로그아웃 등), 없는 패밀리면 false */
+    public boolean revoke(String familyId) {
+        if (!repository.revoke(familyId)) {
+            return false;
+        }
+        repository.findById(familyId).ifPresent(this::rememberRevoked);
+        return true;
+    }
+
+    /** DB: expires_at 인덱스로 한 번에 sweep-batch-size 건씩 삭제 */
+    @Scheduled(fixedDelayString = "${refresh-token.db-sweep-interval:10s}")
+    public void sweepExpiredInDatabase() {
+        try {
+            int deleted = repository.deleteExpired(clock.instant(), props.getSweepBatchSize());
+            if (deleted > 0) {
+                log.debug("Deleted {} expired refresh token families", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Expired refresh token family sweep failed: {}", e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        BoundedExpiringCache.Stats cache = revokedFamilies.stats();
+        return new Stats(cache.size(), cache.evictions(), reuseDetected.sum());
+    }
+
+    // ---------- 내부 유틸 ----------
+    private void rememberRevoked(RefreshTokenFamily family) {
+        revokedFamilies.put(family.getFamilyId(), Boolean.TRUE, family.getExpiresAt());
+    }
+
+    public record Stats(long cachedRevokedFamilies, long cacheEvictions, long reuseDetected) {}
+}
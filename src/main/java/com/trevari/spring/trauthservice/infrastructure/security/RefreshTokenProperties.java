@@ -0,0 +1,18 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("refresh-token")
+public class RefreshTokenProperties {
+    private int maxCachedFamilies = 100_000; // 메모리에 두는 폐기 패밀리 수 상한 (넘치면 오래 안 쓴 것부터 밀려나고 DB 로 판정)
+    private Duration dbSweepInterval = Duration.ofSeconds(10);
+    private int sweepBatchSize = 1_000; // 1회 DB 스윕에서 삭제할 최대 건수
+}
@@ -0,0 +1,39 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 최근 서명 검증에 실패한 토큰 캐시 (negative cache).
+ * 같은 위조/손상 토큰이 반복해 들어와도 HMAC 을 다시 계산하지 않는다. 키는 VerifiedClaimsCache 와 같은 SHA-256 다이제스트.
+ */
+public class RejectedTokenCache {
+
+    private final BoundedExpiringCache<TokenDigest, Boolean> cache;
+    private final Clock clock;
+    private final Duration ttl;
+
+    public RejectedTokenCache(int maxEntries, Duration ttl, Clock clock) {
+        this.cache = new BoundedExpiringCache<>(maxEntries, clock);
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public boolean contains(String token) {
+        return cache.get(TokenDigest.of(token)) != null;
+    }
+
+    public void put(String token) {
+        cache.put(TokenDigest.of(token), Boolean.TRUE, clock.instant().plus(ttl));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public BoundedExpiringCache.Stats stats() {
+        return cache.stats();
+    }
+}
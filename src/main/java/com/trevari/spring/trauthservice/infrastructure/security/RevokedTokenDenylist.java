@@ -0,0 +1,198 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.infrastructure.cache.BloomFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰(jti) 목록.
+ *  - 조회는 먼저 Bloom 필터(락 없음)를 보고, 음성이면 바로 false → 폐기되지 않은 대부분의 토큰은 해시 몇 번으로 끝난다
+ *  - 양성(실제 폐기 또는 오탐)일 때만 정확한 테이블을 확인
+ *  - 정확한 테이블은 jti(128bit) + 만료 시각을 long 배열에 오픈 어드레싱으로 보관 (엔트리당 객체 없음, 약 48B/건)
+ *  - 만료된 항목은 sweep 에서 테이블과 Bloom 필터를 함께 다시 만들어 제거 (Bloom 필터는 삭제 불가)
+ */
+public class RevokedTokenDenylist {
+
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile BloomFilter filter;
+    private long filterCapacity;
+
+    // lock 으로 보호, exps[i] == 0 이면 빈 슬롯
+    private long[] msbs;
+    private long[] lsbs;
+    private long[] exps;
+    private int size;
+
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public RevokedTokenDenylist(long expectedInsertions, double falsePositiveRate, Clock clock) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.filterCapacity = Math.max(1, expectedInsertions);
+        this.filter = BloomFilter.create(filterCapacity, falsePositiveRate);
+        allocate(MIN_CAPACITY);
+    }
+
+    /** 토큰 만료 시각까지 폐기 목록에 유지 (이미 만료된 토큰은 무시) */
+    public void add(String tokenId, Instant expiresAt) {
+        long exp = expiresAt.toEpochMilli();
+        if (tokenId == null || exp <= clock.millis()) {
+            return;
+        }
+        UUID key = keyOf(tokenId);
+        lock.lock();
+        try {
+            if ((size + 1) * 2L > msbs.length) {
+                rebuild(clock.millis());
+            }
+            int slot = slot(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            if (exps[slot] == 0) {
+                msbs[slot] = key.getMostSignificantBits();
+                lsbs[slot] = key.getLeastSignificantBits();
+                size++;
+            }
+            exps[slot] = Math.max(exps[slot], exp);
+
+            if (size > filterCapacity) {
+                // 예상보다 많이 쌓이면 오탐률이 오르므로 크기를 키워 다시 만든다
+                rebuild(clock.millis());
+            } else {
+                filter.put(hash1(key), hash2(key));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        UUID key = keyOf(tokenId);
+        if (!filter.mightContain(hash1(key), hash2(key))) {
+            return false;
+        }
+
+        filterPositives.increment();
+        boolean revoked;
+        lock.lock();
+        try {
+            int slot = slot(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            revoked = exps[slot] > clock.millis();
+        } finally {
+            lock.unlock();
+        }
+        if (!revoked) {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    /** 만료 항목 제거 + Bloom 필터 재구성 */
+    public void sweep() {
+        lock.lock();
+        try {
+            rebuild(clock.millis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(size, msbs.length, filter.bitCount(), filterPositives.sum(), falsePositives.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------- 내부 유틸 (lock 보유 상태에서 호출) ----------
+    // 재구성 후 적재율을 25% 이하로 (50% 를 넘으면 다시 재구성)
+    private void rebuild(long now) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        long[] oldExps = exps;
+
+        int live = 0;
+        for (long exp : oldExps) {
+            if (exp > now) {
+                live++;
+            }
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < live * 4L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+
+        filterCapacity = Math.max(expectedInsertions, live * 2L);
+        BloomFilter rebuilt = BloomFilter.create(filterCapacity, falsePositiveRate);
+        for (int i = 0; i < oldExps.length; i++) {
+            if (oldExps[i] > now) {
+                int slot = slot(oldMsbs[i], oldLsbs[i]);
+                msbs[slot] = oldMsbs[i];
+                lsbs[slot] = oldLsbs[i];
+                exps[slot] = oldExps[i];
+                size++;
+                rebuilt.put(mix(oldMsbs[i]), mix(oldLsbs[i]) | 1L);
+            }
+        }
+        filter = rebuilt;
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        exps = new long[capacity];
+        size = 0;
+    }
+
+    private int slot(long msb, long lsb) {
+        int mask = msbs.length - 1;
+        int i = (int) mix(msb ^ lsb) & mask;
+        while (exps[i] != 0 && (msbs[i] != msb || lsbs[i] != lsb)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    // 발급하는 jti 는 UUID, 그 외 형식은 이름 기반 UUID 로 128bit 키를 만든다
+    private static UUID keyOf(String tokenId) {
+        try {
+            return UUID.fromString(tokenId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(tokenId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long hash1(UUID key) {
+        return mix(key.getMostSignificantBits());
+    }
+
+    private static long hash2(UUID key) {
+        return mix(key.getLeastSignificantBits()) | 1L;
+    }
+
+    // SplitMix64 finalizer (UUID 의 고정 버전 비트를 고르게 섞음)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public record Stats(long size, long capacity, long filterBits, long filterPositives, long falsePositives) {}
+}
@@ -3,20 +3,35 @@ package com.trevari.spring.trauthservice.infrastructure.security;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.NullSecurityContextRepository;
 
 @Configuration
 public class SecurityConfig {
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenProvider tokenProvider) throws Exception {
 
+        // 세션 없이 요청마다 Bearer 토큰으로 인증 (HttpSession 생성/SecurityContext 저장/요청 캐시 없음)
         http
                 .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(new NullSecurityContextRepository()))
+                .addFilterBefore(new JwtAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(
                         authorize -> authorize
                                 // Swagger / springdoc 허용
@@ -25,17 +40,27 @@ public class SecurityConfig {
                                         "/swagger-ui/**",
                                         "/swagger-ui.html"
                                 ).permitAll()
-                                .requestMatchers(HttpMethod.POST, "/api/users").permitAll() // 회원가입만 허용
+                                .requestMatchers(HttpMethod.POST, "/api/users").permitAll() // 회원가입만 허용 (항상 ROLE_USER)
+                                .requestMatchers(HttpMethod.POST, "/api/users/admin").hasRole("ADMIN")     // 역할 지정 생성
+                                .requestMatchers(HttpMethod.POST, "/api/users/bulk").hasRole("ADMIN")      // 대량 이관
                                 .requestMatchers("/api/auth/**").permitAll()                // 로그인/토큰 관련 허용
+                                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll() // 헬스체크/메트릭 수집
+                                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()     // 공개키(JWKS)
+                                .requestMatchers("/actuator/jwtkeys/**").hasRole("ADMIN")                  // 서명 키 회전
                                 .anyRequest().authenticated()
                 );
 
         return http.build();
     }
 
+    // BCrypt 는 요청 스레드가 아닌 전용 해싱 풀에서 실행 (포화 시 429)
+    // cost 는 기동 시 보정값(target-latency 설정 시) 또는 고정값, cost 가 낮은 기존 해시는 로그인 시 재해싱 (낮추기는 allow-downgrade 때만)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           PasswordHashingExecutor passwordHashingExecutor) {
+        int strength = BCryptStrengthCalibrator.resolveStrength(passwordHashingProperties);
+        return new BulkheadPasswordEncoder(new CostAwareBCryptPasswordEncoder(strength,
+                passwordHashingProperties.isAllowDowngrade()), passwordHashingExecutor);
     }
 
     @Bean
@@ -0,0 +1,36 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/** 토큰 SHA-256 다이제스트 캐시 키 (다이제스트가 균등분포이므로 앞 4바이트를 해시코드로 사용) */
+final class TokenDigest {
+    private final byte[] digest;
+    private final int hash;
+
+    private TokenDigest(byte[] digest) {
+        this.digest = digest;
+        this.hash = (digest[0] << 24) | ((digest[1] & 0xFF) << 16) | ((digest[2] & 0xFF) << 8) | (digest[3] & 0xFF);
+    }
+
+    static TokenDigest of(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return new TokenDigest(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof TokenDigest other && Arrays.equals(digest, other.digest));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -1,94 +1,488 @@
 package com.trevari.spring.trauthservice.infrastructure.security;
 
+import com.trevari.spring.trauthservice.domain.user.Role;
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+import com.trevari.spring.trauthservice.infrastructure.logging.SampledLogger;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Base64;
-import java.time.Clock;
-import java.util.Date;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenProvider {
 
+    private static final String FAMILY_ID_CLAIM = "fid";
+    // 토큰 용도 (at/rt), 이 클레임 도입 이전 토큰에는 없음
+    static final String TOKEN_TYPE_CLAIM = "typ";
+
+    // compact 프로필 (JwtProperties.TokenProfile.COMPACT) 클레임 키, v 가 있으면 compact 형식으로 읽는다
+    static final String VERSION_CLAIM = "v";
+    static final int COMPACT_VERSION = 1;
+    static final String ROLE_CODE_CLAIM = "r";
+    static final String COMPACT_USER_NAME_CLAIM = "n";
+    static final String COMPACT_FAMILY_ID_CLAIM = "f";
+
     private final JwtProperties props;
     private final Clock clock = Clock.systemUTC(); // 테스트 용이성↑
-    private SecretKey secretKey;
+    private JwtKeyring keyring;
+    private JwtParser jwtParser;
+    private VerifiedClaimsCache claimsCache; // null 이면 캐시 비활성
+    private RejectedTokenCache rejectedTokens; // null 이면 비활성
+    private RevokedTokenDenylist revokedTokens;
+    private HmacJwtCodec codec; // null 이면 jjwt 만 사용
+    private SampledLogger rejectionLog;
+    private final Map<TokenStatus, LongAdder> validationCounts = newCounters(TokenStatus.class);
+    private final Map<RejectionStage, LongAdder> rejectionCounts = newCounters(RejectionStage.class);
 
     @PostConstruct
     public void init() {
-        // props.getSecret() 이 이미 Base64 라면 decode, 아니면 bytes 그대로 사용
-        byte[] keyBytes;
-        try {
-            keyBytes = Base64.getDecoder().decode(props.getSecret());
-        } catch (IllegalArgumentException e) {
-            keyBytes = props.getSecret().getBytes(StandardCharsets.UTF_8);
+        this.keyring = buildKeyring(clock.instant());
+
+        // 헤더의 kid 로 키 링에서 검증 키를 바로 선택, 파서는 한 번만 생성해 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+
+        if (props.getCodec() == JwtProperties.Codec.FAST) {
+            this.codec = new HmacJwtCodec(keyring);
         }
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+
+        JwtProperties.Cache cacheProps = props.getCache();
+        if (cacheProps.isEnabled()) {
+            this.claimsCache = new VerifiedClaimsCache(cacheProps.getMaxEntries(), clock);
+        }
+
+        JwtProperties.NegativeCache negativeCacheProps = props.getNegativeCache();
+        if (negativeCacheProps.isEnabled()) {
+            this.rejectedTokens = new RejectedTokenCache(negativeCacheProps.getMaxEntries(), negativeCacheProps.getTtl(), clock);
+        }
+
+        JwtProperties.RejectionLog rejectionLogProps = props.getRejectionLog();
+        this.rejectionLog = new SampledLogger(log, rejectionLogProps.getMaxPerInterval(), rejectionLogProps.getInterval());
+
+        JwtProperties.Revocation revocation = props.getRevocation();
+        this.revokedTokens = new RevokedTokenDenylist(
+                revocation.getExpectedInsertions(), revocation.getFalsePositiveRate(), clock);
     }
 
-    /** 사용자 정보로 토큰 생성 (access/refresh 공용) */
+    /** 사용자 정보로 액세스 토큰 생성 (jti 는 새로 발급) */
+    @Timed("auth.jwt.sign")
     public String generateToken(String userId, Long id, String role, String userName, Duration ttl) {
+        return generateToken(userId, id, role, userName, clock.instant().plus(ttl), newTokenId(), null, TokenType.ACCESS);
+    }
+
+    /** jti / 패밀리(fid)를 지정해 리프레시 토큰 생성 (만료 시각은 패밀리 만료와 같은 값으로) */
+    @Timed("auth.jwt.sign")
+    public String generateRefreshToken(String userId, Long id, String role, String userName, Instant expiresAt,
+                                       String tokenId, String familyId) {
+        return generateToken(userId, id, role, userName, expiresAt, tokenId, familyId, TokenType.REFRESH);
+    }
+
+    /** 토큰 만료 시각 계산에 쓰는 시계 (패밀리 만료 등 토큰 exp 와 맞춰야 하는 값은 여기서) */
+    public Instant now() {
+        return clock.instant();
+    }
+
+    private String generateToken(String userId, Long id, String role, String userName, Instant expiresAt,
+                                 String tokenId, String familyId, TokenType type) {
         Instant now = clock.instant();
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+        JwtKeyring.KeyEntry signingKey = keyring.active();
+        boolean compact = props.getProfile() == JwtProperties.TokenProfile.COMPACT;
+        if (codec != null && signingKey.isHmac()) {
+            String token = codec.encode(signingKey, props.getIssuer(), now, expiresAt,
+                    userId, tokenId, id, role, userName, familyId, type, compact);
+            if (token != null) {
+                return token;
+            }
+        }
+
+        JwtBuilder builder = Jwts.builder();
+        if (!compact) {
+            builder.setHeaderParam(Header.TYPE, Header.JWT_TYPE);
+        }
+        builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setIssuer(props.getIssuer())
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plus(ttl)))
+                .setExpiration(Date.from(expiresAt))
                 .setSubject(userId)
-                .claim("id", id)
-                .claim("role", role)
-                .claim("userName", userName)
-                .signWith(secretKey, SignatureAlgorithm.HS512)
+                .setId(tokenId);
+        if (compact) {
+            // HmacJwtCodec 의 compact 인코딩과 같은 순서 (Role 에 없는 역할은 role 문자열 그대로)
+            Role roleCode = Role.fromName(role);
+            builder.claim(VERSION_CLAIM, COMPACT_VERSION)
+                    .claim("id", id)
+                    .claim(roleCode != null ? ROLE_CODE_CLAIM : "role", roleCode != null ? roleCode.getCode() : role)
+                    .claim(COMPACT_USER_NAME_CLAIM, userName);
+            if (familyId != null) {
+                builder.claim(COMPACT_FAMILY_ID_CLAIM, familyId);
+            }
+        } else {
+            builder.claim("id", id)
+                    .claim("role", role)
+                    .claim("userName", userName);
+            if (familyId != null) {
+                builder.claim(FAMILY_ID_CLAIM, familyId);
+            }
+        }
+        builder.claim(TOKEN_TYPE_CLAIM, type.claimValue());
+        return builder
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
+    public static String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
+
     /** 토큰 상태만 판단 */
+    @Timed(value = "auth.jwt.verify", extraTags = {"op", "validate"})
     public TokenStatus validate(String token) {
+        return doVerify(token).status();
+    }
+
+    /** 상태와 클레임을 한 번에 판단 (예외 없음, 클레임은 VALID/REVOKED 일 때만) */
+    @Timed(value = "auth.jwt.verify", extraTags = {"op", "verify"})
+    public Verification verify(String token) {
+        return doVerify(token);
+    }
+
+    /** 검증 완료 클레임 캐시 통계 (비활성이면 null) */
+    public BoundedExpiringCache.Stats claimsCacheStats() {
+        return claimsCache != null ? claimsCache.stats() : null;
+    }
+
+    /** 서명 실패 토큰 캐시 통계 (비활성이면 null) */
+    public BoundedExpiringCache.Stats rejectedTokenCacheStats() {
+        return rejectedTokens != null ? rejectedTokens.stats() : null;
+    }
+
+    /** JWKS 로 공개할 검증용 공개키 (kid → key, active + retiring), HMAC 키는 제외 */
+    public Map<String, ECPublicKey> publicKeys() {
+        Map<String, ECPublicKey> publicKeys = new LinkedHashMap<>();
+        for (JwtKeyring.KeyEntry key : keyring.entries()) {
+            if (key.verificationKey() instanceof ECPublicKey ecKey) {
+                publicKeys.put(key.kid(), ecKey);
+            }
+        }
+        return publicKeys;
+    }
+
+    public Collection<JwtKeyring.KeyEntry> keys() {
+        return keyring.entries();
+    }
+
+    /**
+     * 재기동 없이 서명 키 회전: 새 키가 active 가 되고 기존 active 는 retiring 으로 남아 발급된 토큰을 계속 검증한다.
+     * 이 노드의 메모리에만 적용되고 재기동하면 사라진다. 따라서
+     *  - 키는 반드시 secret(또는 EC 키 쌍)으로 지정한다 (노드마다 다른 키가 생기지 않도록 생성은 하지 않음)
+     *  - 같은 호출을 모든 노드에 보내고, 같은 키를 jwt.keys 에도 추가해 재기동 후에도 유지되게 한다
+     */
+    public JwtKeyring.KeyEntry rotateKey(String kid, String secret, String ecPrivateKey, String ecPublicKey) {
+        Instant now = clock.instant();
+        SignatureAlgorithm algorithm = keyring.active().algorithm();
+
+        JwtKeyring.KeyEntry key;
+        if (StringUtils.hasText(ecPrivateKey) && StringUtils.hasText(ecPublicKey)) {
+            key = JwtKeyring.ec(kid, EcKeys.load(ecPrivateKey, ecPublicKey), now);
+        } else if (StringUtils.hasText(secret)) {
+            key = JwtKeyring.hmac(kid, algorithm.isHmac() ? algorithm : SignatureAlgorithm.HS512, secret, now);
+        } else {
+            throw new IllegalArgumentException("Key material is required: secret or ecPrivateKey/ecPublicKey");
+        }
+
+        keyring.rotate(key);
+        if (rejectedTokens != null) {
+            rejectedTokens.invalidateAll(); // 새 키로 서명된 토큰이 이전에 거절된 적이 있을 수 있음
+        }
+        log.info("JWT signing key rotated: active kid={}", key.kid());
+        return keyring.active();
+    }
+
+    /** retiring 키 폐기 (이 키로 서명된 토큰은 즉시 INVALID 가 되도록 클레임 캐시도 비움) */
+    public boolean retireKey(String kid) {
+        boolean removed = keyring.remove(kid);
+        if (removed && claimsCache != null) {
+            claimsCache.invalidateAll();
+        }
+        return removed;
+    }
+
+    /** jti 를 만료 시각까지 폐기 처리 (jti 가 없는 이전 버전 토큰은 폐기 불가) */
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokens.add(tokenId, expiresAt);
+    }
+
+    public void sweepRevokedTokens() {
+        revokedTokens.sweep();
+    }
+
+    public RevokedTokenDenylist.Stats revokedTokenStats() {
+        return revokedTokens.stats();
+    }
+
+    /** validate/verify 결과별 누적 건수 */
+    public long validationCount(TokenStatus status) {
+        return validationCounts.get(status).sum();
+    }
+
+    /** 거절 단계별 누적 건수 */
+    public long rejectionCount(RejectionStage stage) {
+        return rejectionCounts.get(stage).sum();
+    }
+
+    /** 거절 로그 중 샘플링으로 생략된 누적 건수 */
+    public long suppressedRejectionLogs() {
+        return rejectionLog.suppressedCount();
+    }
+
+    // 거절이 멈춰도 마지막 구간의 생략 건수가 남도록 주기적으로 요약
+    @Scheduled(fixedDelayString = "${jwt.rejection-log.interval:1m}")
+    public void flushRejectionLog() {
+        rejectionLog.flushSummary();
+    }
+
+    // ---------- 내부 유틸 ----------
+    /**
+     * 단계별 검증 (싼 판정부터, 예외 없이 결과 반환)
+     * 구조 → 검증 완료 캐시 → 헤더(kid/alg)/exp → 실패 토큰 캐시 → 서명 → 폐기 목록
+     */
+    private Verification doVerify(String token) {
+        Verification verification = verifyStages(token);
+        validationCounts.get(verification.status()).increment();
+        return verification;
+    }
+
+    private Verification verifyStages(String token) {
+        if (token == null || !JwtPrecheck.wellFormed(token, props.getMaxTokenLength())) {
+            return reject(RejectionStage.STRUCTURE, TokenStatus.INVALID);
+        }
+
+        TokenClaims claims = cachedClaims(token);
+        if (claims == null) {
+            RejectionStage stage = JwtPrecheck.beforeSignature(token, keyring, clock.millis());
+            if (stage != null) {
+                return reject(stage, stage == RejectionStage.EXPIRY ? TokenStatus.EXPIRED : TokenStatus.INVALID);
+            }
+            if (rejectedTokens != null && rejectedTokens.contains(token)) {
+                return reject(RejectionStage.NEGATIVE_CACHE, TokenStatus.INVALID);
+            }
+
+            Verification verified = verifySignature(token);
+            if (verified.status() == TokenStatus.EXPIRED) {
+                return reject(RejectionStage.EXPIRY, TokenStatus.EXPIRED);
+            }
+            if (verified.status() != TokenStatus.VALID) {
+                if (rejectedTokens != null) {
+                    rejectedTokens.put(token);
+                }
+                return reject(RejectionStage.SIGNATURE, TokenStatus.INVALID);
+            }
+            claims = verified.claims();
+            if (claimsCache != null) {
+                claimsCache.put(token, claims);
+            }
+        }
+        // 폐기되지 않은 토큰은 Bloom 필터 음성으로 바로 통과
+        return new Verification(revokedTokens.contains(claims.tokenId()) ? TokenStatus.REVOKED : TokenStatus.VALID, claims);
+    }
+
+    private Verification reject(RejectionStage stage, TokenStatus status) {
+        rejectionCounts.get(stage).increment();
+        rejectionLog.info("JWT rejected: stage={}, status={}", stage, status);
+        return new Verification(status, null);
+    }
+
+    // 전용 코덱이 판단하면 그 결과, 아니면 jjwt (jjwt 예외는 여기서 결과로 바꾸고 DEBUG 로만 남김)
+    private Verification verifySignature(String token) {
+        if (codec != null) {
+            Verification verified = codec.verify(token, clock.millis());
+            if (verified != null) {
+                return verified;
+            }
+        }
         try {
-            parseClaims(token);
-            return TokenStatus.VALID;
+            return new Verification(TokenStatus.VALID, toTokenClaims(parseClaims(token)));
         } catch (ExpiredJwtException e) {
-            log.info("JWT expired: {}", e.getMessage());
-            return TokenStatus.EXPIRED;
+            log.debug("JWT expired: {}", e.getMessage());
+            return new Verification(TokenStatus.EXPIRED, null);
         } catch (JwtException | IllegalArgumentException e) {
-            log.info("JWT invalid: {}", e.getMessage());
-            return TokenStatus.INVALID;
+            log.debug("JWT invalid: {}", e.getMessage());
+            return new Verification(TokenStatus.INVALID, null);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> newCounters(Class<E> type) {
+        Map<E, LongAdder> counts = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            counts.put(key, new LongAdder());
+        }
+        return counts;
+    }
+
+    private TokenClaims cachedClaims(String token) {
+        return claimsCache != null ? claimsCache.get(token) : null;
+    }
+
+    private static TokenType tokenType(Claims c) {
+        String value = c.get(TOKEN_TYPE_CLAIM, String.class);
+        if (value == null) {
+            return null;
+        }
+        TokenType type = TokenType.fromClaim(value);
+        if (type == null) {
+            throw new MalformedJwtException("Unknown token type: " + value);
         }
+        return type;
     }
 
-    /** 토큰을 파싱해 클레임 VO로 반환 (도메인/DTO 생성 금지) */
-    public TokenClaims parse(String token) {
-        Claims c = parseClaims(token);
+    // v 클레임 유무로 STANDARD / COMPACT 형식을 구분 (마이그레이션 동안 두 형식 모두 검증)
+    private static TokenClaims toTokenClaims(Claims c) {
+        Integer version = c.get(VERSION_CLAIM, Integer.class);
+        if (version == null) {
+            return new TokenClaims(
+                    c.getSubject(),
+                    c.get("id", Long.class),
+                    c.get("role", String.class),
+                    c.get("userName", String.class),
+                    c.getExpiration().toInstant(),
+                    c.getId(),
+                    c.get(FAMILY_ID_CLAIM, String.class),
+                    tokenType(c)
+            );
+        }
+        if (version != COMPACT_VERSION) {
+            throw new UnsupportedJwtException("Unsupported token version: " + version);
+        }
+        Integer roleCode = c.get(ROLE_CODE_CLAIM, Integer.class);
+        String role = c.get("role", String.class);
+        if (roleCode != null) {
+            Role known = Role.fromCode(roleCode);
+            if (known == null) {
+                throw new MalformedJwtException("Unknown role code: " + roleCode);
+            }
+            role = known.name();
+        }
         return new TokenClaims(
                 c.getSubject(),
                 c.get("id", Long.class),
-                c.get("role", String.class),
-                c.get("userName", String.class),
-                c.getExpiration().toInstant()
+                role,
+                c.get(COMPACT_USER_NAME_CLAIM, String.class),
+                c.getExpiration().toInstant(),
+                c.getId(),
+                c.get(COMPACT_FAMILY_ID_CLAIM, String.class),
+                tokenType(c)
         );
     }
 
-    // ---------- 내부 유틸 ----------
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    public enum TokenStatus { VALID, EXPIRED, INVALID }
+    private Key verificationKey(JwsHeader<?> header) {
+        JwtKeyring.KeyEntry key = keyring.find(header.getKeyId());
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+        if (key == null || !key.supports(algorithm)) {
+            throw new UnsupportedJwtException("No verification key for kid=" + header.getKeyId() + ", alg=" + algorithm);
+        }
+        return key.verificationKey();
+    }
+
+    /**
+     * jwt.keys(첫 번째 active) + 단일 키 설정(jwt.secret / jwt.algorithm / jwt.ec-*)을 legacy 로 등록.
+     * kid 헤더가 없는 과거 HMAC 토큰은 jwt.secret 키로만 검증한다.
+     */
+    private JwtKeyring buildKeyring(Instant now) {
+        List<JwtKeyring.KeyEntry> keys = new ArrayList<>();
+        for (JwtProperties.SigningKey key : props.getKeys()) {
+            keys.add(key.getAlgorithm() == SignatureAlgorithm.ES256
+                    ? JwtKeyring.ec(key.getKid(), EcKeys.load(key.getEcPrivateKey(), key.getEcPublicKey()), now)
+                    : JwtKeyring.hmac(key.getKid(), key.getAlgorithm(), key.getSecret(), now));
+        }
+
+        SignatureAlgorithm algorithm = props.getAlgorithm();
+        if (algorithm == SignatureAlgorithm.ES256) {
+            if (StringUtils.hasText(props.getEcPrivateKey()) && StringUtils.hasText(props.getEcPublicKey())) {
+                keys.add(JwtKeyring.ec(null, EcKeys.load(props.getEcPrivateKey(), props.getEcPublicKey()), now));
+            } else if (keys.isEmpty()) {
+                // 재기동 시 기존 토큰이 모두 무효화되므로 운영에서는 반드시 키를 설정할 것
+                log.warn("jwt.ec-private-key/ec-public-key not set, generating an ephemeral ES256 key pair");
+                keys.add(JwtKeyring.ec(null, EcKeys.generate(), now));
+            }
+        } else if (!algorithm.isHmac()) {
+            throw new IllegalStateException("unsupported jwt.algorithm: " + algorithm);
+        }
+
+        String legacyKid = null;
+        if (StringUtils.hasText(props.getSecret())) {
+            JwtKeyring.KeyEntry legacy = JwtKeyring.hmac(null,
+                    algorithm.isHmac() ? algorithm : SignatureAlgorithm.HS512, props.getSecret(), now);
+            keys.add(legacy);
+            legacyKid = legacy.kid();
+        } else if (keys.isEmpty()) {
+            throw new IllegalStateException("jwt.secret or jwt.keys is required for " + algorithm);
+        }
+        return new JwtKeyring(keys, legacyKid);
+    }
+
+    public enum TokenStatus { VALID, EXPIRED, INVALID, REVOKED }
+
+    /** VALID 가 아닌 판정이 난 단계 */
+    public enum RejectionStage { STRUCTURE, HEADER, EXPIRY, NEGATIVE_CACHE, SIGNATURE }
+
+    /** 검증 결과 (verify 가 돌려줄 때 claims 는 VALID/REVOKED 일 때만, 그 외 null) */
+    public record Verification(TokenStatus status, TokenClaims claims) {
+        public boolean isValid() {
+            return status == TokenStatus.VALID;
+        }
+    }
+
+    /** 토큰 용도 (typ 클레임 값) */
+    public enum TokenType {
+        ACCESS("at"), REFRESH("rt");
+
+        private final String claimValue;
+
+        TokenType(String claimValue) {
+            this.claimValue = claimValue;
+        }
+
+        public String claimValue() {
+            return claimValue;
+        }
+
+        /** 모르는 값이면 null */
+        public static TokenType fromClaim(String value) {
+            for (TokenType type : values()) {
+                if (type.claimValue.equals(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
 
-    /** 인프라 전용 파싱 결과 (계층 간 운반용) */
-    public record TokenClaims(String userId, Long id, String role, String userName, Instant exp) {}
+    /** 인프라 전용 파싱 결과 (계층 간 운반용, tokenId/familyId/type 은 이전 버전 토큰이면 null) */
+    public record TokenClaims(String userId, Long id, String role, String userName, Instant exp,
+                              String tokenId, String familyId, TokenType type) {}
 }
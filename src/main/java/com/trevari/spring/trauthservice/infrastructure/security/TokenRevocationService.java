@@ -0,0 +1,113 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.domain.token.RevokedToken;
+import com.trevari.spring.trauthservice.domain.token.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 토큰 폐기 기록(DB) ↔ TokenProvider 폐기 목록(메모리) 동기화.
+ *  - 폐기는 드물기 때문에 DB 에 바로 기록하고 로컬 목록에도 즉시 반영
+ *  - 다른 노드가 폐기한 토큰은 revoked_at 기준으로 주기적으로 가져온다 (노드 간 시계 차이만큼 겹쳐서 조회)
+ *  - 기동 시 아직 만료되지 않은 폐기 토큰을 모두 적재
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenProvider tokenProvider;
+    private final RevokedTokenRepository repository;
+    private final JwtProperties props;
+    private final Clock clock = Clock.systemUTC();
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    public TokenRevocationService(TokenProvider tokenProvider, RevokedTokenRepository repository, JwtProperties props) {
+        this.tokenProvider = tokenProvider;
+        this.repository = repository;
+        this.props = props;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (props.getRevocation().isLoadOnStartup()) {
+            sync();
+        }
+    }
+
+    /** 토큰을 만료 시각까지 폐기, jti 가 없는 토큰(이전 버전)이면 false */
+    public boolean revoke(TokenProvider.TokenClaims claims) {
+        if (claims.tokenId() == null) {
+            return false;
+        }
+        repository.save(RevokedToken.builder()
+                .tokenId(claims.tokenId())
+                .userId(claims.userId())
+                .expiresAt(claims.exp())
+                .revokedAt(clock.instant())
+                .build());
+        tokenProvider.revoke(claims.tokenId(), claims.exp());
+        return true;
+    }
+
+    /**
+     * 토큰을 한 번만 쓰이도록 폐기 (DB 에 먼저 기록한 노드만 true, 이미 폐기됐으면 false).
+     * jti 가 없는 이전 버전 토큰은 토큰 다이제스트를 키로 exp 까지 기록한다.
+     */
+    public boolean consume(String token, TokenProvider.TokenClaims claims) {
+        String key = claims.tokenId() != null ? claims.tokenId() : legacyTokenKey(token);
+        boolean first = repository.saveIfAbsent(RevokedToken.builder()
+                .tokenId(key)
+                .userId(claims.userId())
+                .expiresAt(claims.exp())
+                .revokedAt(clock.instant())
+                .build());
+        if (claims.tokenId() != null) {
+            tokenProvider.revoke(claims.tokenId(), claims.exp());
+        }
+        return first;
+    }
+
+    // SHA-256 앞 27바이트 base64url = 36자 (token_id 컬럼 길이, jti(UUID) 와 같은 자리에 저장)
+    static String legacyTokenKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 27));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:5s}", initialDelayString = "${jwt.revocation.sync-interval:5s}")
+    public void sync() {
+        Instant now = clock.instant();
+        Instant since = lastSyncedAt.equals(Instant.EPOCH) ? Instant.EPOCH : lastSyncedAt.minus(SYNC_OVERLAP);
+        for (RevokedToken revoked : repository.findRevokedSince(since, now)) {
+            tokenProvider.revoke(revoked.getTokenId(), revoked.getExpiresAt());
+        }
+        lastSyncedAt = now;
+    }
+
+    /** 만료된 폐기 항목 정리: 메모리는 재구성, DB 는 sweep-batch-size 건씩 */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sweep-interval:1m}")
+    public void sweepExpired() {
+        tokenProvider.sweepRevokedTokens();
+        try {
+            repository.deleteExpired(clock.instant(), props.getRevocation().getSweepBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Expired revoked token sweep failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("user-cache")
+public class UserCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+    private Duration negativeTtl = Duration.ofSeconds(5); // 존재하지 않는 아이디 캐시 (짧게)
+}
@@ -0,0 +1,109 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.domain.user.UserChangedEvent;
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * userId → CustomUserDetails 캐시 (TTL + 크기 제한).
+ * 존재하지 않는 아이디도 짧은 TTL 로 캐시하고, UserChangedEvent 수신 시(커밋 후) 해당 키를 무효화한다.
+ * 적재 도중 같은 키가 무효화되면(키 해시별 세대 번호로 판단) 읽어 온 값은 캐시에 넣지 않는다 → 무효화 이전 값이 다시 살아나지 않음.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final Entry NOT_FOUND = new Entry(null);
+    private static final int GENERATION_STRIPES = 1024; // 키별 세대 번호 대신 해시 구간별 (메모리 고정, 충돌 시 캐시를 건너뛸 뿐)
+
+    private final UserCacheProperties props;
+    private final Clock clock = Clock.systemUTC();
+    private final BoundedExpiringCache<String, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public UserDetailsCache(UserCacheProperties props) {
+        this.props = props;
+        this.cache = new BoundedExpiringCache<>(props.getMaxEntries(), clock);
+    }
+
+    /** 캐시 조회 후 없으면 loader 로 적재, 존재하지 않는 사용자면 null */
+    public CustomUserDetails getOrLoad(String userId, Function<String, Optional<CustomUserDetails>> loader) {
+        if (!props.isEnabled() || userId == null) {
+            return loader.apply(userId).orElse(null);
+        }
+
+        Entry cached = cache.get(userId);
+        if (cached != null) {
+            if (cached == NOT_FOUND) {
+                negativeHits.increment();
+            }
+            return cached.userDetails();
+        }
+
+        int slot = slot(userId);
+        long generation = generations.get(slot);
+        long start = System.nanoTime();
+        Optional<CustomUserDetails> loaded = loader.apply(userId);
+        loadNanos.add(System.nanoTime() - start);
+        loads.increment();
+
+        if (loaded.isPresent()) {
+            putIfUnchanged(userId, slot, generation, new Entry(loaded.get()), props.getTtl());
+            return loaded.get();
+        }
+        putIfUnchanged(userId, slot, generation, NOT_FOUND, props.getNegativeTtl());
+        return null;
+    }
+
+    public void invalidate(String userId) {
+        generations.incrementAndGet(slot(userId));
+        cache.invalidate(userId);
+    }
+
+    // 가입(음성 캐시 제거)·비밀번호 재해싱 등 변경분은 커밋 이후 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    public Stats stats() {
+        BoundedExpiringCache.Stats s = cache.stats();
+        return new Stats(s.hits(), s.misses(), negativeHits.sum(), s.evictions(), s.expirations(),
+                s.size(), loads.sum(), loadNanos.sum());
+    }
+
+    // ---------- 내부 유틸 ----------
+    // put 이후 다시 확인: 그 사이 무효화가 세대를 올렸다면 방금 넣은 값을 지움 (세대 증가 → 캐시 제거 순서라 빠짐없이 걸러짐)
+    private void putIfUnchanged(String userId, int slot, long generation, Entry entry, Duration ttl) {
+        if (generations.get(slot) != generation) {
+            return;
+        }
+        cache.put(userId, entry, clock.instant().plus(ttl));
+        if (generations.get(slot) != generation) {
+            cache.invalidate(userId);
+        }
+    }
+
+    private static int slot(String userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private record Entry(CustomUserDetails userDetails) {}
+
+    /** hits 에는 negativeHits 가 포함됨, 적재 지연은 loadNanos / loads */
+    public record Stats(long hits, long misses, long negativeHits, long evictions, long expirations,
+                        int size, long loads, long loadNanos) {}
+}
@@ -1,26 +1,65 @@
 package com.trevari.spring.trauthservice.infrastructure.security;
 
-import com.trevari.spring.trauthservice.domain.user.User;
 import com.trevari.spring.trauthservice.domain.user.UserRepository;
+import com.trevari.spring.trauthservice.infrastructure.persistence.ReadYourWritesWindow;
+import com.trevari.spring.trauthservice.infrastructure.persistence.ReplicaRouting;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
+    // 캐시 히트 시 커넥션을 잡지 않도록 SUPPORTS (미스일 때만 리포지토리 조회가 자체 읽기 트랜잭션 사용)
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUserId(username)
-                .orElseThrow(() -> new UsernameNotFoundException(username + " not found."));
+        CustomUserDetails userDetails = userDetailsCache.getOrLoad(username, this::load);
+        if (userDetails == null) {
+            throw new UsernameNotFoundException(username + " not found.");
+        }
+        return userDetails;
+    }
+
+    // 복제본 라우팅 시 read-your-writes : 방금 가입/변경한 사용자는 primary 에서,
+    // 복제본에 없으면(다른 인스턴스에서 방금 가입했을 수 있음) primary 에서 한 번 더
+    private Optional<CustomUserDetails> load(String userId) {
+        if (readYourWritesWindow.isRecentlyWritten(userId)) {
+            return ReplicaRouting.onPrimary(() -> find(userId));
+        }
+        Optional<CustomUserDetails> found = find(userId);
+        if (found.isEmpty() && readYourWritesWindow.isReplicaRoutingEnabled()) {
+            return ReplicaRouting.onPrimary(() -> find(userId));
+        }
+        return found;
+    }
+
+    private Optional<CustomUserDetails> find(String userId) {
+        return userRepository.findByUserId(userId).map(CustomUserDetails::from);
+    }
+
+    /**
+     * 로그인 성공 후 저장된 해시의 BCrypt cost 가 현재 설정과 다르면 DaoAuthenticationProvider 가 호출
+     * (newPassword = 방금 입력한 비밀번호를 현재 cost 로 다시 해싱한 값)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
 
-        return CustomUserDetails.from(user);
+        return ((CustomUserDetails) user).withPassword(newPassword);
     }
 }
@@ -0,0 +1,41 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.infrastructure.cache.BoundedExpiringCache;
+
+import java.time.Clock;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 각 엔트리는 토큰의 exp 시각에 정확히 만료된다.
+ */
+public class VerifiedClaimsCache {
+
+    private final BoundedExpiringCache<TokenDigest, TokenProvider.TokenClaims> cache;
+
+    public VerifiedClaimsCache(int maxEntries, Clock clock) {
+        this.cache = new BoundedExpiringCache<>(maxEntries, clock);
+    }
+
+    /** 캐시된(=이미 검증된) 클레임, 없거나 만료됐으면 null */
+    public TokenProvider.TokenClaims get(String token) {
+        if (token == null) {
+            return null;
+        }
+        return cache.get(TokenDigest.of(token));
+    }
+
+    public void put(String token, TokenProvider.TokenClaims claims) {
+        if (token == null || claims.exp() == null) {
+            return;
+        }
+        cache.put(TokenDigest.of(token), claims, claims.exp());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public BoundedExpiringCache.Stats stats() {
+        return cache.stats();
+    }
+}
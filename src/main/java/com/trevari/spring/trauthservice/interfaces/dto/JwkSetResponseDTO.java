@@ -0,0 +1,21 @@
+package com.trevari.spring.trauthservice.interfaces.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/** RFC 7517 JWK Set (/.well-known/jwks.json) */
+public record JwkSetResponseDTO(
+        List<Jwk> keys
+) {
+    @Builder
+    public record Jwk(
+            String kty,
+            String crv,
+            String x,
+            String y,
+            String use,
+            String alg,
+            String kid
+    ) {}
+}
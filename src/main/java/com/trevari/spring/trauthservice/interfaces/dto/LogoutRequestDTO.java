@@ -0,0 +1,6 @@
+package com.trevari.spring.trauthservice.interfaces.dto;
+
+public record LogoutRequestDTO(
+        String refreshToken
+) {
+}
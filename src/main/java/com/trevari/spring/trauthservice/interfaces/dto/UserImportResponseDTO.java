@@ -0,0 +1,16 @@
+package com.trevari.spring.trauthservice.interfaces.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record UserImportResponseDTO(
+        int total,
+        int imported,
+        int failed,
+        List<RowFailure> failures   // 상세는 user-import.max-reported-failures 건까지만
+) {
+    /** row: 1부터 시작하는 데이터 행 번호 (CSV 헤더 제외) */
+    public record RowFailure(int row, String userId, String reason) {}
+}
@@ -0,0 +1,7 @@
+package com.trevari.spring.trauthservice.interfaces.dto;
+
+import java.util.List;
+
+public record ValidTokenBatchRequestDTO(
+        List<String> tokens
+) {}
@@ -0,0 +1,39 @@
+package com.trevari.spring.trauthservice.interfaces.dto;
+
+import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ValidTokenBatchResponseDTO(
+        List<Result> results
+) {
+    /** 요청 순서와 동일한 순서의 토큰별 검증 결과 (VALID 일 때만 클레임 포함) */
+    @Builder
+    public record Result(
+            TokenProvider.TokenStatus statusNum,
+            String userId,
+            Long id,
+            String role,
+            String userName,
+            Instant exp
+    ) {
+        public static Result of(TokenProvider.TokenStatus status) {
+            return Result.builder()
+                    .statusNum(status)
+                    .build();
+        }
+
+        public static Result of(TokenProvider.TokenStatus status, TokenProvider.TokenClaims claims) {
+            return Result.builder()
+                    .statusNum(status)
+                    .userId(claims.userId())
+                    .id(claims.id())
+                    .role(claims.role())
+                    .userName(claims.userName())
+                    .exp(claims.exp())
+                    .build();
+        }
+    }
+}
@@ -4,14 +4,13 @@ import com.trevari.spring.trauthservice.application.AuthService;
 import com.trevari.spring.trauthservice.interfaces.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @Slf4j
 @RestController
@@ -20,14 +19,18 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Auth", description = "인증 API")
 public class AuthController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     @PostMapping("/sessions")
     @Operation(summary = "로그인", description = "사용자 로그인 후 토큰 발급")
-    public ResponseEntity<AuthLoginResponseDTO> login(@RequestBody AuthLoginRequestDTO req) {
-        log.info("/api/auth/sessions");
+    public ResponseEntity<AuthLoginResponseDTO> login(@RequestBody AuthLoginRequestDTO req, HttpServletRequest request) {
+        log.debug("/api/auth/sessions");
 
-        AuthLoginResponseDTO res = authService.login(req);
+        // 프록시 뒤라면 server.forward-headers-strategy 설정으로 실제 클라이언트 IP 가 들어온다
+        AuthLoginResponseDTO res = authService.login(req, request.getRemoteAddr());
 
         return res != null && res.success()
                 ? ResponseEntity.ok(res)
@@ -35,12 +38,27 @@ public class AuthController {
     }
 
     // •	DELETE /api/auth/sessions/me (로그아웃)
+    @DeleteMapping("/sessions/me")
+    @Operation(summary = "로그아웃", description = "Authorization 헤더의 Access Token 폐기, 본문에 Refresh Token 이 있으면 함께 폐기")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) LogoutRequestDTO req) {
+        log.debug("/api/auth/sessions/me");
+
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        boolean loggedOut = authService.logout(accessToken, req != null ? req.refreshToken() : null);
+
+        return loggedOut
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
 
     //	•	POST /api/auth/tokens (재발급)
     @PostMapping("/tokens")
     @Operation(summary = "토큰 재발급", description = "Refresh Token으로 Access/Refresh 토큰 재발급")
     public ResponseEntity<ReissueTokenResponseDTO> reissueToken(@RequestBody ReissueTokenRequestDTO req) {
-        log.info("/api/auth/tokens");
+        log.debug("/api/auth/tokens");
 
         ReissueTokenResponseDTO res = authService.reissueTokens(req.refreshToken());
 
@@ -55,7 +73,7 @@ public class AuthController {
     @PostMapping("/tokens/validate")
     @Operation(summary = "토큰 유효성 검증", description = "Access Token의 유효성 검증 (1: 유효, 2: 만료, -1: 서버 오류)")
     public ResponseEntity<Integer> validateToken(@RequestBody ValidTokenRequestDTO req) {
-        log.info("/api/auth/tokens/validate");
+        log.debug("/api/auth/tokens/validate");
 
         var res = authService.validToken(req.token());
 
@@ -65,10 +83,22 @@ public class AuthController {
 
         return switch (res.statusNum()) {
             case VALID -> ResponseEntity.ok(1);   // 유효
-            case EXPIRED, INVALID -> ResponseEntity.ok(2); // 만료
+            case EXPIRED, INVALID, REVOKED -> ResponseEntity.ok(2); // 만료
             default -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(-1);
         };
     }
 
+    //	•	POST /api/auth/tokens/validate:batch (일괄 검증)
+    @PostMapping("/tokens/validate:batch")
+    @Operation(summary = "토큰 일괄 검증", description = "여러 토큰을 한 번에 검증하고 토큰별 상태와 클레임을 요청 순서대로 반환")
+    public ResponseEntity<ValidTokenBatchResponseDTO> validateTokens(@RequestBody ValidTokenBatchRequestDTO req) {
+        log.debug("/api/auth/tokens/validate:batch");
+
+        if (req.tokens() == null || req.tokens().size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(authService.validTokens(req.tokens()));
+    }
 
 }
@@ -0,0 +1,34 @@
+package com.trevari.spring.trauthservice.interfaces.http;
+
+import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
+import com.trevari.spring.trauthservice.interfaces.dto.JwkSetResponseDTO;
+import com.trevari.spring.trauthservice.interfaces.mapper.JwkMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "토큰 검증용 공개키")
+public class JwkSetController {
+
+    // 다운스트림 서비스가 공개키를 캐시해 두고 로컬에서 서명을 검증하도록 허용
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(15)).cachePublic();
+
+    private final TokenProvider tokenProvider;
+    private final JwkMapper jwkMapper;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JWK Set", description = "ES256 서명 모드일 때 토큰 검증용 공개키 목록 (HMAC 모드면 빈 목록)")
+    public ResponseEntity<JwkSetResponseDTO> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(jwkMapper.toJwkSet(tokenProvider.publicKeys()));
+    }
+}
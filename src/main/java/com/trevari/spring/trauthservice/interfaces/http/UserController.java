@@ -1,17 +1,24 @@
 package com.trevari.spring.trauthservice.interfaces.http;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.spring.trauthservice.application.UserImportService;
 import com.trevari.spring.trauthservice.application.UserService;
+import com.trevari.spring.trauthservice.interfaces.dto.UserImportResponseDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -20,14 +27,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
 
     @PostMapping
-    @Operation(summary = "회원가입", description = "신규 사용자 회원가입 처리")
+    @Operation(summary = "회원가입", description = "신규 사용자 회원가입 처리 (role 은 무시되고 항상 ROLE_USER)")
     public ResponseEntity<UserJoinResponseDTO> createUser(@RequestBody UserJoinRequestDTO req) {
         var res = userService.join(req);
         return ResponseEntity
                 .status(res.success() ? 201 : 409)
                 .body(res);
     }
+
+    @PostMapping("/admin")
+    @Operation(summary = "사용자 생성 (관리자)", description = "역할을 지정해 사용자 생성 (ADMIN)")
+    public ResponseEntity<UserJoinResponseDTO> createUserByAdmin(@RequestBody UserJoinRequestDTO req) {
+        var res = userService.createByAdmin(req);
+        return ResponseEntity
+                .status(res.success() ? 201 : 409)
+                .body(res);
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, UserImportReader.TEXT_CSV})
+    @Operation(summary = "사용자 대량 이관", description = "JSON 배열 또는 CSV(userId,password,userName,role) 본문을 스트리밍으로 읽어 일괄 등록, 행 단위 실패 사유 반환 (ADMIN)")
+    public ResponseEntity<UserImportResponseDTO> importUsers(HttpServletRequest request) throws IOException {
+        try (UserImportReader rows = UserImportReader.open(request, objectMapper)) {
+            return ResponseEntity.ok(userImportService.importUsers(rows));
+        }
+    }
 }
@@ -0,0 +1,225 @@
+package com.trevari.spring.trauthservice.interfaces.http;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.spring.trauthservice.domain.user.Role;
+import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 대량 이관 요청 본문을 한 행씩 읽는 Iterator (본문 전체를 메모리에 올리지 않음).
+ *  - application/json : UserJoinRequestDTO 배열
+ *  - text/csv         : 헤더 행(userId,password,userName,role) + 데이터 행, 큰따옴표 필드 지원
+ * 값이 잘못된 행(알 수 없는 role 등)은 빈 필드로 넘겨 서비스에서 INVALID_ROW 로 처리하고,
+ * 본문 자체가 깨진 경우에만 HttpMessageNotReadableException(400) 으로 중단한다.
+ */
+abstract class UserImportReader implements Iterator<UserJoinRequestDTO>, Closeable {
+
+    static final String TEXT_CSV = "text/csv";
+
+    private final HttpInputMessage inputMessage;
+    private UserJoinRequestDTO nextRow;
+    private boolean done;
+
+    UserImportReader(HttpInputMessage inputMessage) {
+        this.inputMessage = inputMessage;
+    }
+
+    static UserImportReader open(HttpServletRequest request, ObjectMapper objectMapper) throws IOException {
+        ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(request);
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(TEXT_CSV)) {
+            Charset charset = request.getCharacterEncoding() != null
+                    ? Charset.forName(request.getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new Csv(inputMessage, new BufferedReader(new InputStreamReader(request.getInputStream(), charset)));
+        }
+        return new Json(inputMessage, objectMapper, objectMapper.createParser(request.getInputStream()));
+    }
+
+    /** 다음 행, 끝이면 null */
+    protected abstract UserJoinRequestDTO read() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null && !done) {
+            try {
+                nextRow = read();
+            } catch (IOException e) {
+                throw unreadable("invalid import body: " + e.getMessage(), e);
+            }
+            done = nextRow == null;
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public UserJoinRequestDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        UserJoinRequestDTO row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    protected HttpMessageNotReadableException unreadable(String message, Throwable cause) {
+        return new HttpMessageNotReadableException(message, cause, inputMessage);
+    }
+
+    // ---------- JSON ----------
+    private static final class Json extends UserImportReader {
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private boolean started;
+
+        Json(HttpInputMessage inputMessage, ObjectMapper objectMapper, JsonParser parser) {
+            super(inputMessage);
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+        }
+
+        @Override
+        protected UserJoinRequestDTO read() throws IOException {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw unreadable("import body must be a JSON array", null);
+                }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw unreadable("import body must be an array of objects", null);
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            try {
+                return objectMapper.treeToValue(node, UserJoinRequestDTO.class);
+            } catch (JsonProcessingException e) {
+                return new UserJoinRequestDTO(node.path("userId").asText(null), null, null, null);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    // ---------- CSV ----------
+    private static final class Csv extends UserImportReader {
+        private static final List<String> COLUMNS = List.of("userId", "password", "userName", "role");
+
+        private final BufferedReader reader;
+        private int[] columnIndexes;
+
+        Csv(HttpInputMessage inputMessage, BufferedReader reader) {
+            super(inputMessage);
+            this.reader = reader;
+        }
+
+        @Override
+        protected UserJoinRequestDTO read() throws IOException {
+            if (columnIndexes == null) {
+                columnIndexes = readHeader();
+            }
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> fields = split(line);
+            return new UserJoinRequestDTO(
+                    field(fields, 0),
+                    field(fields, 1),
+                    field(fields, 2),
+                    role(field(fields, 3))
+            );
+        }
+
+        private int[] readHeader() throws IOException {
+            String header = reader.readLine();
+            if (header == null) {
+                throw unreadable("CSV header is missing", null);
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1); // 엑셀 BOM
+            }
+            List<String> names = split(header).stream().map(String::trim).toList();
+            int[] indexes = new int[COLUMNS.size()];
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                indexes[i] = names.indexOf(COLUMNS.get(i));
+                if (indexes[i] < 0) {
+                    throw unreadable("CSV header must contain " + COLUMNS, null);
+                }
+            }
+            return indexes;
+        }
+
+        private String field(List<String> fields, int column) {
+            int index = columnIndexes[column];
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        private static Role role(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Role.valueOf(value.trim());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        /** 쉼표 구분, "..." 안의 쉼표와 "" (따옴표 이스케이프) 처리. 여러 줄에 걸친 필드는 지원하지 않음 */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>(COLUMNS.size());
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
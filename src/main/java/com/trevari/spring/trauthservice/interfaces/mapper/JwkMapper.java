@@ -0,0 +1,32 @@
+package com.trevari.spring.trauthservice.interfaces.mapper;
+
+import com.trevari.spring.trauthservice.infrastructure.security.EcKeys;
+import com.trevari.spring.trauthservice.interfaces.dto.JwkSetResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.security.interfaces.ECPublicKey;
+import java.util.Map;
+
+@Component
+public class JwkMapper {
+
+    public JwkSetResponseDTO toJwkSet(Map<String, ECPublicKey> publicKeys) {
+        return new JwkSetResponseDTO(
+                publicKeys.entrySet().stream()
+                        .map(e -> toJwk(e.getKey(), e.getValue()))
+                        .toList()
+        );
+    }
+
+    public JwkSetResponseDTO.Jwk toJwk(String kid, ECPublicKey key) {
+        return JwkSetResponseDTO.Jwk.builder()
+                .kty("EC")
+                .crv(EcKeys.CURVE)
+                .x(EcKeys.x(key))
+                .y(EcKeys.y(key))
+                .use("sig")
+                .alg("ES256")
+                .kid(kid)
+                .build();
+    }
+}
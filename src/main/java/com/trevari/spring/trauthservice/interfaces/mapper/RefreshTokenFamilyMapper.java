@@ -0,0 +1,20 @@
+package com.trevari.spring.trauthservice.interfaces.mapper;
+
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamily;
+import com.trevari.spring.trauthservice.infrastructure.persistence.RefreshTokenFamilyEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenFamilyMapper {
+
+    public RefreshTokenFamily toDomain(RefreshTokenFamilyEntity entity) {
+        return RefreshTokenFamily.builder()
+                .familyId(entity.getFamilyId())
+                .userId(entity.getUserId())
+                .currentTokenId(entity.getCurrentTokenId())
+                .expiresAt(entity.getExpiresAt())
+                .revoked(entity.isRevoked())
+                .build();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.trevari.spring.trauthservice.interfaces.mapper;
+
+import com.trevari.spring.trauthservice.domain.token.RevokedToken;
+import com.trevari.spring.trauthservice.infrastructure.persistence.RevokedTokenEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RevokedTokenMapper {
+
+    public RevokedTokenEntity toEntity(RevokedToken revokedToken) {
+        return RevokedTokenEntity.builder()
+                .tokenId(revokedToken.getTokenId())
+                .userId(revokedToken.getUserId())
+                .expiresAt(revokedToken.getExpiresAt())
+                .revokedAt(revokedToken.getRevokedAt())
+                .build();
+    }
+
+    public RevokedToken toDomain(RevokedTokenEntity entity) {
+        return RevokedToken.builder()
+                .tokenId(entity.getTokenId())
+                .userId(entity.getUserId())
+                .expiresAt(entity.getExpiresAt())
+                .revokedAt(entity.getRevokedAt())
+                .build();
+    }
+
+}
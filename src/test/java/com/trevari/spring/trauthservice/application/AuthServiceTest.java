@@ -1,16 +1,38 @@
 package com.trevari.spring.trauthservice.application;
 
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditEvent;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditRepository;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamily;
+import com.trevari.spring.trauthservice.domain.token.RefreshTokenFamilyRepository;
+import com.trevari.spring.trauthservice.domain.token.RevokedToken;
+import com.trevari.spring.trauthservice.domain.token.RevokedTokenRepository;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuditProperties;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
+import com.trevari.spring.trauthservice.infrastructure.security.CostAwareBCryptPasswordEncoder;
 import com.trevari.spring.trauthservice.infrastructure.security.CustomUserDetails;
+import com.trevari.spring.trauthservice.exception.LoginThrottledException;
 import com.trevari.spring.trauthservice.infrastructure.security.JwtProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginRateLimiter;
+import com.trevari.spring.trauthservice.infrastructure.security.LoginThrottleProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenFamilyStore;
+import com.trevari.spring.trauthservice.infrastructure.security.RefreshTokenProperties;
 import com.trevari.spring.trauthservice.infrastructure.security.TokenProvider;
+import com.trevari.spring.trauthservice.infrastructure.security.TokenRevocationService;
 import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginRequestDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.AuthLoginResponseDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.ReissueTokenResponseDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.ValidTokenResponseDTO;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -20,16 +42,38 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 // 통합테스트
 class AuthServiceTest {
 
     private AuthService authService;
     private TokenProvider tokenProvider;
+    private FakeRefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private TokenRevocationService tokenRevocationService;
+    private LoginRateLimiter loginRateLimiter;
+    private FakeAuthAuditRepository auditRepository;
+    private AuthAuditTrail auditTrail;
+    private FakeRevokedTokenRepository revokedTokenRepository;
+    private String jwtSecret;
 
     // --- 테스트 고정값 ---
     private final String USER_ID = "hong";
@@ -65,12 +109,29 @@ class AuthServiceTest {
         // 4) 진짜 TokenProvider
         JwtProperties props = new JwtProperties();
         props.setIssuer("trevari-auth");
-        props.setSecret(generateBase64Secret(64));
+        this.jwtSecret = generateBase64Secret(64);
+        props.setSecret(jwtSecret);
         this.tokenProvider = new TokenProvider(props);
         this.tokenProvider.init();
 
-        // 5) 테스트 대상 서비스
-        this.authService = new AuthService(authenticationManager, tokenProvider);
+        // 5) 리프레시 토큰 패밀리 저장소 (DB 는 인메모리 페이크)
+        this.refreshTokenFamilyRepository = new FakeRefreshTokenFamilyRepository();
+        this.refreshTokenFamilyStore = new RefreshTokenFamilyStore(refreshTokenFamilyRepository, new RefreshTokenProperties());
+
+        // 6) 토큰 폐기 (DB 는 인메모리 페이크)
+        this.revokedTokenRepository = new FakeRevokedTokenRepository();
+        this.tokenRevocationService = new TokenRevocationService(tokenProvider, revokedTokenRepository, props);
+
+        // 7) 로그인 시도 제한 (기본 설정)
+        this.loginRateLimiter = new LoginRateLimiter(new LoginThrottleProperties());
+
+        // 8) 감사 기록 (DB 는 인메모리 페이크)
+        this.auditRepository = new FakeAuthAuditRepository();
+        this.auditTrail = new AuthAuditTrail(auditRepository, new AuditProperties());
+
+        // 9) 테스트 대상 서비스
+        this.authService = new AuthService(authenticationManager, tokenProvider, refreshTokenFamilyStore,
+                tokenRevocationService, loginRateLimiter, auditTrail);
     }
 
 
@@ -93,7 +154,7 @@ class AuthServiceTest {
         assertThat(tokenProvider.validate(res.accessToken()).name()).isEqualTo("VALID");
         assertThat(tokenProvider.validate(res.refreshToken()).name()).isEqualTo("VALID");
 
-        var claims = tokenProvider.parse(res.accessToken());
+        var claims = tokenProvider.verify(res.accessToken()).claims();
         assertThat(claims.userId()).isEqualTo(USER_ID);
         assertThat(claims.id()).isEqualTo(USER_DB_ID);
         assertThat(claims.role()).isEqualTo("ROLE_USER");
@@ -114,6 +175,55 @@ class AuthServiceTest {
         assertThat(res.refreshToken()).isNull();
     }
 
+    @Test
+    void 연속실패시_backoff로_BCrypt전에_거절() {
+        AuthLoginRequestDTO wrong = new AuthLoginRequestDTO(USER_ID, "bad-password");
+
+        // 기본 failure-threshold(3) 까지는 일반 실패 응답
+        for (int i = 0; i < 3; i++) {
+            assertThat(authService.login(wrong, "10.0.0.1").success()).isFalse();
+        }
+        // 4번째 실패 → backoff 시작, 다음 시도는 비밀번호가 맞아도 BCrypt 전에 거절
+        assertThat(authService.login(wrong, "10.0.0.1").success()).isFalse();
+        assertThatThrownBy(() -> authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW), "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isPositive());
+        assertThat(loginRateLimiter.rejections(LoginRateLimiter.KeyType.USER)).isEqualTo(1);
+    }
+
+    @Test
+    void IP별_버킷한도_초과시_다른아이디도_거절() {
+        LoginThrottleProperties props = new LoginThrottleProperties();
+        props.getIp().setCapacity(2);
+        LoginRateLimiter limiter = new LoginRateLimiter(props);
+
+        limiter.acquire("a", "10.0.0.2");
+        limiter.acquire("b", "10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.acquire("c", "10.0.0.2")).isInstanceOf(LoginThrottledException.class);
+        limiter.acquire("c", "10.0.0.3"); // 다른 IP 는 영향 없음
+        assertThat(limiter.rejections(LoginRateLimiter.KeyType.IP)).isEqualTo(1);
+    }
+
+    @Test
+    void 키상한을_넘겨도_차단중인_아이디는_밀려나지_않음() {
+        LoginThrottleProperties props = new LoginThrottleProperties();
+        props.setMaxKeys(128); // 스트라이프당 1개
+        props.setBackoffBase(Duration.ofMinutes(1));
+        LoginRateLimiter limiter = new LoginRateLimiter(props);
+        for (int i = 0; i < 4; i++) {
+            limiter.onFailure("victim");
+        }
+
+        // 새 아이디를 대량으로 시도해도 실패 기록 없는 키만 밀려남
+        for (int i = 0; i < 1_000; i++) {
+            limiter.acquire("user-" + i, null);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("victim", null)).isInstanceOf(LoginThrottledException.class);
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(64 + 1);
+    }
+
     @Test
     void 재발급_실패_형식오류토큰_INVALID() {
         String invalid = "not-a-jwt-token";
@@ -139,8 +249,12 @@ class AuthServiceTest {
 
     @Test
     void 재발급_성공_VALID() {
-        // 유효한 RT 생성
-        String rt = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofDays(2));
+        // 유효한 RT 생성 (패밀리 시작)
+        String familyId = TokenProvider.newTokenId();
+        String tokenId = TokenProvider.newTokenId();
+        Instant expiresAt = tokenProvider.now().plus(Duration.ofDays(2));
+        String rt = tokenProvider.generateRefreshToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, expiresAt, tokenId, familyId);
+        refreshTokenFamilyStore.startFamily(familyId, USER_ID, tokenId, expiresAt);
 
         ReissueTokenResponseDTO res = authService.reissueTokens(rt);
 
@@ -155,18 +269,193 @@ class AuthServiceTest {
         assertThat(tokenProvider.validate(res.refreshToken())).isEqualTo(TokenProvider.TokenStatus.VALID);
 
         // 클레임 유지 확인
-        TokenProvider.TokenClaims atClaims = tokenProvider.parse(res.accessToken());
-        TokenProvider.TokenClaims rtClaims = tokenProvider.parse(res.refreshToken());
+        TokenProvider.TokenClaims atClaims = tokenProvider.verify(res.accessToken()).claims();
+        TokenProvider.TokenClaims rtClaims = tokenProvider.verify(res.refreshToken()).claims();
 
         assertThat(atClaims.userId()).isEqualTo(USER_ID);
         assertThat(atClaims.id()).isEqualTo(USER_DB_ID);
         assertThat(atClaims.role()).isEqualTo(ROLE);
         assertThat(atClaims.userName()).isEqualTo(USER_NAME);
+        assertThat(atClaims.type()).isEqualTo(TokenProvider.TokenType.ACCESS);
 
         assertThat(rtClaims.userId()).isEqualTo(USER_ID);
         assertThat(rtClaims.id()).isEqualTo(USER_DB_ID);
         assertThat(rtClaims.role()).isEqualTo(ROLE);
         assertThat(rtClaims.userName()).isEqualTo(USER_NAME);
+        assertThat(rtClaims.type()).isEqualTo(TokenProvider.TokenType.REFRESH);
+        assertThat(rtClaims.familyId()).isEqualTo(familyId);
+        assertThat(rtClaims.tokenId()).isNotEqualTo(tokenId);
+    }
+
+    @Test
+    void 재발급_액세스토큰으로는_불가() {
+        AuthLoginResponseDTO login = authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+
+        assertThat(authService.reissueTokens(login.accessToken()).success()).isFalse();
+        assertThat(authService.reissueTokens(login.accessToken()).success()).isFalse();
+        assertThat(refreshTokenFamilyRepository.store).hasSize(1); // 로그인 때 만든 패밀리만
+    }
+
+    @Test
+    void 재발급_typ없는_이전버전토큰은_한번만_새패밀리로_편입() {
+        // 도입 이전 TokenProvider.createToken 과 같은 형식: typ 헤더만, kid/jti/typ/fid 없음, jwt.secret 으로 HS512 서명
+        Instant now = Instant.now();
+        String legacy = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuer("trevari-auth")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofDays(2))))
+                .setSubject(USER_ID)
+                .claim("id", USER_DB_ID)
+                .claim("role", ROLE)
+                .claim("userName", USER_NAME)
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret)), SignatureAlgorithm.HS512)
+                .compact();
+
+        ReissueTokenResponseDTO first = authService.reissueTokens(legacy);
+        assertThat(first.success()).isTrue();
+        TokenProvider.TokenClaims migrated = tokenProvider.verify(first.refreshToken()).claims();
+        assertThat(migrated.familyId()).isNotNull();
+        assertThat(migrated.userName()).isEqualTo(USER_NAME);
+        assertThat(revokedTokenRepository.store).hasSize(1)
+                .allSatisfy((key, revoked) -> assertThat(key).hasSize(36)); // token_id 컬럼 길이
+
+        // 같은 이전 버전 토큰을 다시 내면 거절 (패밀리 무한 생성 방지), 옮겨 간 패밀리는 계속 회전
+        assertThat(authService.reissueTokens(legacy).success()).isFalse();
+        assertThat(refreshTokenFamilyRepository.store).hasSize(1);
+        assertThat(authService.reissueTokens(first.refreshToken()).success()).isTrue();
+    }
+
+    @Test
+    void 재발급시_이전RT_재사용하면_패밀리전체_폐기() {
+        AuthLoginResponseDTO login = authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+        String firstRt = login.refreshToken();
+
+        ReissueTokenResponseDTO rotated = authService.reissueTokens(firstRt);
+        assertThat(rotated.success()).isTrue();
+        assertThat(tokenProvider.verify(rotated.refreshToken()).claims().familyId())
+                .isEqualTo(tokenProvider.verify(firstRt).claims().familyId());
+
+        // 이미 교체된 RT 재사용 → 실패 + 패밀리 폐기
+        ReissueTokenResponseDTO reused = authService.reissueTokens(firstRt);
+        assertThat(reused.success()).isFalse();
+        assertThat(reused.statusNum()).isEqualTo(-1);
+
+        // 정상 사용자가 가진 최신 RT 도 더 이상 사용 불가
+        assertThat(authService.reissueTokens(rotated.refreshToken()).success()).isFalse();
+        assertThat(refreshTokenFamilyStore.stats().reuseDetected()).isEqualTo(1);
+    }
+
+    @Test
+    void 패밀리상태는_바로_DB에_기록_재기동후에도_회전가능() {
+        AuthLoginResponseDTO login = authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+        String familyId = tokenProvider.verify(login.refreshToken()).claims().familyId();
+        assertThat(refreshTokenFamilyRepository.store).containsKey(familyId);
+
+        // 재기동 후(메모리 비어 있음)에도 DB 상태로 회전 가능
+        RefreshTokenFamilyStore restarted = new RefreshTokenFamilyStore(refreshTokenFamilyRepository, new RefreshTokenProperties());
+        AuthService restartedService = new AuthService(null, tokenProvider, restarted, tokenRevocationService, loginRateLimiter, auditTrail);
+        assertThat(restartedService.reissueTokens(login.refreshToken()).success()).isTrue();
+    }
+
+    @Test
+    void 두노드가_같은DB를_쓰면_다른노드의_회전과_폐기를_그대로_따름() {
+        RefreshTokenFamilyStore nodeA = refreshTokenFamilyStore;
+        RefreshTokenFamilyStore nodeB = new RefreshTokenFamilyStore(refreshTokenFamilyRepository, new RefreshTokenProperties());
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+        nodeA.startFamily("fam-1", USER_ID, "rt-1", expiresAt);
+
+        // 회전할 때마다 노드가 바뀌어도 (각 노드의 메모리 사본은 뒤처져 있음) DB 기준으로 판정
+        assertThat(nodeA.rotate("fam-1", "rt-1", "rt-2", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.ROTATED);
+        assertThat(nodeB.rotate("fam-1", "rt-2", "rt-3", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.ROTATED);
+        assertThat(nodeA.rotate("fam-1", "rt-3", "rt-4", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.ROTATED);
+
+        // B 에서 재사용 탐지 → A 에서도 최신 RT 거절
+        assertThat(nodeB.rotate("fam-1", "rt-1", "rt-x", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.REUSE_DETECTED);
+        assertThat(nodeA.rotate("fam-1", "rt-4", "rt-5", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.REVOKED);
+        assertThat(refreshTokenFamilyRepository.store.get("fam-1").isRevoked()).isTrue();
+    }
+
+    @Test
+    void 두노드에_같은RT가_동시에_들어오면_한쪽만_회전() throws Exception {
+        RefreshTokenFamilyStore nodeA = refreshTokenFamilyStore;
+        RefreshTokenFamilyStore nodeB = new RefreshTokenFamilyStore(refreshTokenFamilyRepository, new RefreshTokenProperties());
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+        nodeA.startFamily("fam-1", USER_ID, "rt-1", expiresAt);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<RefreshTokenFamilyStore.RotationResult> onA = pool.submit(() -> {
+                start.await();
+                return nodeA.rotate("fam-1", "rt-1", "rt-a", expiresAt);
+            });
+            Future<RefreshTokenFamilyStore.RotationResult> onB = pool.submit(() -> {
+                start.await();
+                return nodeB.rotate("fam-1", "rt-1", "rt-b", expiresAt);
+            });
+            start.countDown();
+
+            assertThat(List.of(onA.get(5, TimeUnit.SECONDS), onB.get(5, TimeUnit.SECONDS)))
+                    .containsExactlyInAnyOrder(RefreshTokenFamilyStore.RotationResult.ROTATED,
+                            RefreshTokenFamilyStore.RotationResult.REUSE_DETECTED);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 폐기패밀리는_상한까지만_메모리에_밀려난패밀리는_DB로_다시_판정() {
+        RefreshTokenProperties small = new RefreshTokenProperties();
+        small.setMaxCachedFamilies(16);
+        RefreshTokenFamilyStore store = new RefreshTokenFamilyStore(refreshTokenFamilyRepository, small);
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+
+        for (int i = 0; i < 100; i++) {
+            store.startFamily("fam-" + i, USER_ID, "rt-" + i, expiresAt);
+            assertThat(store.revoke("fam-" + i)).isTrue();
+        }
+
+        assertThat(store.stats().cachedRevokedFamilies()).isLessThanOrEqualTo(16);
+        assertThat(store.stats().cacheEvictions()).isPositive();
+        // 가장 먼저 밀려난 패밀리도 여전히 폐기 상태
+        assertThat(store.rotate("fam-0", "rt-0", "rt-new", expiresAt)).isEqualTo(RefreshTokenFamilyStore.RotationResult.REVOKED);
+    }
+
+    @Test
+    void 로그아웃시_AT는_REVOKED_RT패밀리도_폐기() {
+        AuthLoginResponseDTO login = authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+        String otherAt = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+        authService.validToken(login.accessToken()); // 캐시에 적재된 상태에서도 폐기가 반영되는지
+
+        assertThat(authService.logout(login.accessToken(), login.refreshToken())).isTrue();
+
+        assertThat(authService.validToken(login.accessToken()).statusNum()).isEqualTo(TokenProvider.TokenStatus.REVOKED);
+        assertThat(authService.validToken(otherAt).statusNum()).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(authService.reissueTokens(login.refreshToken()).success()).isFalse();
+        // 이미 폐기된 AT 로는 다시 로그아웃 불가
+        assertThat(authService.logout(login.accessToken(), null)).isFalse();
+    }
+
+    @Test
+    void 폐기목록_다수토큰중_폐기된것만_REVOKED() {
+        List<String> revoked = new ArrayList<>();
+        List<String> alive = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String token = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+            if (i % 2 == 0) {
+                TokenProvider.TokenClaims claims = tokenProvider.verify(token).claims();
+                tokenProvider.revoke(claims.tokenId(), claims.exp());
+                revoked.add(token);
+            } else {
+                alive.add(token);
+            }
+        }
+        tokenProvider.sweepRevokedTokens();
+
+        revoked.forEach(t -> assertThat(tokenProvider.validate(t)).isEqualTo(TokenProvider.TokenStatus.REVOKED));
+        alive.forEach(t -> assertThat(tokenProvider.validate(t)).isEqualTo(TokenProvider.TokenStatus.VALID));
+        assertThat(tokenProvider.revokedTokenStats().size()).isEqualTo(1_000);
     }
 
     // ---------------------------
@@ -195,6 +484,365 @@ class AuthServiceTest {
         assertThat(res.statusNum()).isEqualTo(TokenProvider.TokenStatus.INVALID);
     }
 
+    @Test
+    void 토큰검증_결과별_카운트_집계() {
+        String at = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+        String expired = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofSeconds(-1));
+
+        authService.validToken(at);
+        authService.validToken(at);
+        authService.validToken(expired);
+        authService.validToken("not-a-jwt-token");
+
+        assertThat(tokenProvider.validationCount(TokenProvider.TokenStatus.VALID)).isEqualTo(2);
+        assertThat(tokenProvider.validationCount(TokenProvider.TokenStatus.EXPIRED)).isEqualTo(1);
+        assertThat(tokenProvider.validationCount(TokenProvider.TokenStatus.INVALID)).isEqualTo(1);
+    }
+
+    @Test
+    void 토큰검증_반복호출시_캐시에서_응답() {
+        String at = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+
+        authService.validToken(at); // 최초 1회: 서명 검증 후 캐시 적재
+        authService.validToken(at);
+        authService.validToken(at);
+
+        var stats = tokenProvider.claimsCacheStats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 토큰검증_변조토큰은_캐시히트_없이_INVALID() {
+        String at = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+        authService.validToken(at);
+
+        int sigStart = at.lastIndexOf('.') + 1;
+        char flipped = at.charAt(sigStart) == 'A' ? 'B' : 'A';
+        String tampered = at.substring(0, sigStart) + flipped + at.substring(sigStart + 1);
+
+        assertThat(authService.validToken(tampered).statusNum()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+    }
+
+    @Test
+    void 토큰일괄검증_요청순서대로_단건결과와_동일() {
+        String valid = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+        String expired = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofSeconds(-1));
+        String invalid = "!!!broken.token.value!!!";
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tokens.addAll(List.of(valid, expired, invalid));
+        }
+
+        var res = authService.validTokens(tokens);
+
+        assertThat(res.results()).hasSize(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            var result = res.results().get(i);
+            assertThat(result.statusNum()).isEqualTo(authService.validToken(tokens.get(i)).statusNum());
+        }
+        var first = res.results().get(0);
+        assertThat(first.userId()).isEqualTo(USER_ID);
+        assertThat(first.id()).isEqualTo(USER_DB_ID);
+        assertThat(first.role()).isEqualTo(ROLE);
+        assertThat(res.results().get(1).userId()).isNull();
+    }
+
+    @Test
+    void 로그인_성공시_cost가_낮은_해시는_재해싱() {
+        // 저장된 해시는 cost 4, 현재 설정은 cost 5
+        PasswordEncoder current = new CostAwareBCryptPasswordEncoder(5);
+        String storedHash = new BCryptPasswordEncoder(4).encode(RAW_PW);
+        AtomicReference<String> rehashed = new AtomicReference<>();
+
+        CustomUserDetails stored = CustomUserDetails.builder()
+                .id(USER_DB_ID)
+                .userId(USER_ID)
+                .password(storedHash)
+                .authorities(List.of((GrantedAuthority) () -> ROLE))
+                .build();
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> stored);
+        provider.setPasswordEncoder(current);
+        provider.setUserDetailsPasswordService((user, newPassword) -> {
+            rehashed.set(newPassword);
+            return ((CustomUserDetails) user).withPassword(newPassword);
+        });
+        AuthService service = new AuthService(new ProviderManager(provider), tokenProvider, refreshTokenFamilyStore,
+                tokenRevocationService, loginRateLimiter, auditTrail);
+
+        AuthLoginResponseDTO res = service.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+
+        assertThat(res.success()).isTrue();
+        assertThat(rehashed.get()).startsWith("$2a$05$");
+        assertThat(current.matches(RAW_PW, rehashed.get())).isTrue();
+        assertThat(current.upgradeEncoding(rehashed.get())).isFalse();
+    }
+
+    @Test
+    void cost가_높은_해시는_기본적으로_유지_allowDowngrade일때만_낮춤() {
+        String higherCost = new BCryptPasswordEncoder(5).encode(RAW_PW);
+
+        // cost 가 다른 노드를 오가도 재해싱이 반복되지 않음
+        assertThat(new CostAwareBCryptPasswordEncoder(4).upgradeEncoding(higherCost)).isFalse();
+        assertThat(new CostAwareBCryptPasswordEncoder(4, true).upgradeEncoding(higherCost)).isTrue();
+    }
+
+    @Test
+    void ES256모드_발급토큰_검증및_기존HMAC토큰_호환() {
+        String secret = generateBase64Secret(64);
+
+        JwtProperties hmacProps = new JwtProperties();
+        hmacProps.setIssuer("trevari-auth");
+        hmacProps.setSecret(secret);
+        TokenProvider hmacProvider = new TokenProvider(hmacProps);
+        hmacProvider.init();
+        String legacyToken = hmacProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+
+        JwtProperties ecProps = new JwtProperties();
+        ecProps.setIssuer("trevari-auth");
+        ecProps.setSecret(secret);
+        ecProps.setAlgorithm(SignatureAlgorithm.ES256);
+        TokenProvider ecProvider = new TokenProvider(ecProps);
+        ecProvider.init();
+        String ecToken = ecProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+
+        assertThat(ecProvider.validate(ecToken)).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(ecProvider.validate(legacyToken)).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(ecProvider.verify(ecToken).claims().userId()).isEqualTo(USER_ID);
+        assertThat(ecProvider.publicKeys()).hasSize(1);
+        // HMAC 전용 노드는 ES256 토큰을 검증할 키가 없음
+        assertThat(hmacProvider.validate(ecToken)).isEqualTo(TokenProvider.TokenStatus.INVALID);
+    }
+
+    @Test
+    void 키회전후_기존토큰_검증유지_폐기시_INVALID() {
+        String before = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+        String oldKid = tokenProvider.keys().iterator().next().kid();
+
+        // 키 없이 회전하면 노드마다 다른 키가 생기므로 거절
+        assertThatThrownBy(() -> tokenProvider.rotateKey("2026-10", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        var rotated = tokenProvider.rotateKey("2026-10", generateBase64Secret(64), null, null);
+        String after = tokenProvider.generateToken(USER_ID, USER_DB_ID, ROLE, USER_NAME, Duration.ofMinutes(10));
+
+        assertThat(rotated.kid()).isEqualTo("2026-10");
+        assertThat(authService.validToken(before).statusNum()).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(authService.validToken(after).statusNum()).isEqualTo(TokenProvider.TokenStatus.VALID);
+
+        assertThat(tokenProvider.retireKey(oldKid)).isTrue();
+        assertThat(authService.validToken(before).statusNum()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+        assertThat(authService.validToken(after).statusNum()).isEqualTo(TokenProvider.TokenStatus.VALID);
+    }
+
+    @Test
+    void 감사이벤트는_flush시_일괄기록_버퍼가_가득차면_버림() {
+        AuthLoginResponseDTO login = authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW), "10.0.0.1");
+        authService.login(new AuthLoginRequestDTO(USER_ID, "wrong"), "10.0.0.1");
+        authService.reissueTokens(login.refreshToken());
+        authService.reissueTokens(login.refreshToken()); // 재사용
+        assertThat(auditRepository.events).isEmpty();
+
+        auditTrail.flush();
+        assertThat(auditRepository.events)
+                .extracting(AuthAuditEvent::getType)
+                .containsExactly(AuthAuditType.LOGIN_SUCCESS, AuthAuditType.LOGIN_FAILURE,
+                        AuthAuditType.REISSUE_SUCCESS, AuthAuditType.REISSUE_FAILURE);
+        assertThat(auditRepository.events.get(0).getClientIp()).isEqualTo("10.0.0.1");
+        assertThat(auditRepository.events.get(3).getDetail()).isEqualTo("REUSE_DETECTED");
+
+        // DROP 정책: 슬롯 4개를 넘는 이벤트는 요청을 막지 않고 버림
+        AuditProperties small = new AuditProperties();
+        small.setCapacity(4);
+        FakeAuthAuditRepository smallRepository = new FakeAuthAuditRepository();
+        AuthAuditTrail smallTrail = new AuthAuditTrail(smallRepository, small);
+        for (int i = 0; i < 6; i++) {
+            smallTrail.record(AuthAuditType.LOGOUT, "user" + i);
+        }
+        assertThat(smallTrail.stats().dropped()).isEqualTo(2);
+
+        smallTrail.flush();
+        assertThat(smallRepository.events).extracting(AuthAuditEvent::getUserId)
+                .containsExactly("user0", "user1", "user2", "user3");
+        smallTrail.record(AuthAuditType.LOGOUT, "user6"); // 비운 슬롯 재사용
+        smallTrail.flush();
+        assertThat(smallRepository.events).hasSize(5);
+    }
+
+    @Test
+    void 동시에_들어온_같은_로그인은_인증한번_토큰은_요청마다_발급() throws Exception {
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .id(USER_DB_ID)
+                .userId(USER_ID)
+                .authorities(List.of((GrantedAuthority) () -> ROLE))
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger authentications = new AtomicInteger();
+        AuthenticationManager slowManager = authentication -> {
+            authentications.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS); // BCrypt 대신 대기
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        };
+        AuthService service = new AuthService(slowManager, tokenProvider, refreshTokenFamilyStore,
+                tokenRevocationService, loginRateLimiter, auditTrail);
+
+        List<AuthLoginResponseDTO> results = loginConcurrently(service, new AuthLoginRequestDTO(USER_ID, RAW_PW), 3, release);
+        assertThat(results).allMatch(AuthLoginResponseDTO::success);
+        assertThat(authentications.get()).isEqualTo(1);
+        assertThat(service.coalescedLogins()).isEqualTo(2);
+
+        // 요청마다 자기 RT 패밀리 → 탭/기기가 차례로 재발급해도 서로를 재사용으로 판정하지 않음
+        assertThat(results).extracting(r -> tokenProvider.verify(r.refreshToken()).claims().familyId()).doesNotHaveDuplicates();
+        assertThat(refreshTokenFamilyRepository.store).hasSize(3);
+        for (AuthLoginResponseDTO result : results) {
+            assertThat(service.reissueTokens(result.refreshToken()).success()).isTrue();
+        }
+
+        // 감사 기록은 결과를 받은 요청마다 (IP 도 요청별)
+        auditTrail.flush();
+        assertThat(auditRepository.events).extracting(AuthAuditEvent::getType)
+                .containsExactly(AuthAuditType.LOGIN_SUCCESS, AuthAuditType.LOGIN_SUCCESS, AuthAuditType.LOGIN_SUCCESS);
+        assertThat(auditRepository.events).extracting(AuthAuditEvent::getClientIp)
+                .containsExactlyInAnyOrder("10.0.1.0", "10.0.1.1", "10.0.1.2");
+
+        // 끝난 뒤 들어온 요청은 새로 계산
+        AuthLoginResponseDTO later = service.login(new AuthLoginRequestDTO(USER_ID, RAW_PW));
+        assertThat(authentications.get()).isEqualTo(2);
+        assertThat(service.reissueTokens(later.refreshToken()).success()).isTrue();
+    }
+
+    @Test
+    void 동시에_들어온_같은_실패로그인은_요청마다_실패로_집계() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AuthenticationManager slowManager = authentication -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new BadCredentialsException("bad");
+        };
+        AuthService service = new AuthService(slowManager, tokenProvider, refreshTokenFamilyStore,
+                tokenRevocationService, loginRateLimiter, auditTrail);
+
+        List<AuthLoginResponseDTO> results = loginConcurrently(service, new AuthLoginRequestDTO(USER_ID, "bad-password"), 3, release);
+        assertThat(results).noneMatch(AuthLoginResponseDTO::success);
+        auditTrail.flush();
+        assertThat(auditRepository.events).extracting(AuthAuditEvent::getType)
+                .containsExactly(AuthAuditType.LOGIN_FAILURE, AuthAuditType.LOGIN_FAILURE, AuthAuditType.LOGIN_FAILURE);
+
+        // 공유된 실패도 3회로 집계 → 한 번 더 실패하면 backoff 로 차단
+        assertThat(authService.login(new AuthLoginRequestDTO(USER_ID, "bad-password")).success()).isFalse();
+        assertThatThrownBy(() -> authService.login(new AuthLoginRequestDTO(USER_ID, RAW_PW)))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+
+    // 같은 로그인 요청 n 개를 서로 다른 IP 에서 동시에 보내고, 모두 합쳐진 뒤 release 로 인증을 끝냄
+    private static List<AuthLoginResponseDTO> loginConcurrently(AuthService service, AuthLoginRequestDTO request,
+                                                                int n, CountDownLatch release) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<AuthLoginResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                String clientIp = "10.0.1." + i;
+                futures.add(executor.submit(() -> service.login(request, clientIp)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (service.coalescedLogins() < n - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            List<AuthLoginResponseDTO> results = new ArrayList<>();
+            for (Future<AuthLoginResponseDTO> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    static class FakeAuthAuditRepository implements AuthAuditRepository {
+        private final List<AuthAuditEvent> events = new ArrayList<>();
+
+        @Override
+        public void saveAll(List<AuthAuditEvent> batch) {
+            events.addAll(batch);
+        }
+    }
+
+    static class FakeRefreshTokenFamilyRepository implements RefreshTokenFamilyRepository {
+        private final Map<String, RefreshTokenFamily> store = new HashMap<>();
+
+        @Override
+        public synchronized Optional<RefreshTokenFamily> findById(String familyId) {
+            return Optional.ofNullable(store.get(familyId));
+        }
+
+        @Override
+        public synchronized void insert(RefreshTokenFamily family) {
+            store.put(family.getFamilyId(), family);
+        }
+
+        // 실제 어댑터의 조건부 UPDATE 와 같은 판정을 원자적으로
+        @Override
+        public synchronized boolean rotate(String familyId, String expectedTokenId, String newTokenId,
+                                           Instant newExpiresAt, Instant now) {
+            RefreshTokenFamily family = store.get(familyId);
+            if (family == null || family.isRevoked() || family.isExpired(now)
+                    || !family.getCurrentTokenId().equals(expectedTokenId)) {
+                return false;
+            }
+            store.put(familyId, family.rotate(newTokenId, newExpiresAt));
+            return true;
+        }
+
+        @Override
+        public synchronized boolean revoke(String familyId) {
+            return store.computeIfPresent(familyId, (id, family) -> family.revoke()) != null;
+        }
+
+        @Override
+        public synchronized int deleteExpired(Instant now, int limit) {
+            int before = store.size();
+            store.values().removeIf(family -> family.isExpired(now));
+            return before - store.size();
+        }
+    }
+
+    static class FakeRevokedTokenRepository implements RevokedTokenRepository {
+        private final Map<String, RevokedToken> store = new HashMap<>();
+
+        @Override
+        public void save(RevokedToken revokedToken) {
+            store.put(revokedToken.getTokenId(), revokedToken);
+        }
+
+        @Override
+        public boolean saveIfAbsent(RevokedToken revokedToken) {
+            return store.putIfAbsent(revokedToken.getTokenId(), revokedToken) == null;
+        }
+
+        @Override
+        public List<RevokedToken> findRevokedSince(Instant since, Instant now) {
+            return store.values().stream()
+                    .filter(t -> !t.getRevokedAt().isBefore(since) && t.getExpiresAt().isAfter(now))
+                    .toList();
+        }
+
+        @Override
+        public int deleteExpired(Instant now, int limit) {
+            int before = store.size();
+            store.values().removeIf(t -> !t.getExpiresAt().isAfter(now));
+            return before - store.size();
+        }
+    }
+
     // === 유틸: 안전한 Base64 시크릿 생성 ===
     private static String generateBase64Secret(int bytes) {
         byte[] key = new byte[bytes];
@@ -0,0 +1,117 @@
+package com.trevari.spring.trauthservice.application;
+
+import com.trevari.spring.trauthservice.domain.user.Role;
+import com.trevari.spring.trauthservice.domain.user.User;
+import com.trevari.spring.trauthservice.infrastructure.persistence.UserImportProperties;
+import com.trevari.spring.trauthservice.infrastructure.security.BulkPasswordHasher;
+import com.trevari.spring.trauthservice.infrastructure.security.PasswordHashingProperties;
+import com.trevari.spring.trauthservice.interfaces.dto.UserImportResponseDTO;
+import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UserImportServiceTest {
+
+    private UserImportService userImportService;
+    private UserServiceTest.FakeUserRepository fakeRepo;
+    private BulkPasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        fakeRepo = new UserServiceTest.FakeUserRepository();
+        PasswordHashingProperties hashingProps = new PasswordHashingProperties();
+        hashingProps.setBulkPoolSize(4);
+        passwordHasher = new BulkPasswordHasher(new UserServiceTest.FakePasswordEncoder(), hashingProps);
+
+        UserImportProperties importProps = new UserImportProperties();
+        importProps.setChunkSize(3); // 청크 경계를 넘나드는 경우까지 확인
+        userImportService = new UserImportService(fakeRepo, passwordHasher, importProps);
+
+        fakeRepo.save(User.create("existUser", "ENC:pw!", "기존유저", Role.ROLE_USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void 대량이관_성공_및_행단위_실패_테스트() {
+        // given
+        List<UserJoinRequestDTO> rows = new ArrayList<>();
+        rows.add(new UserJoinRequestDTO("user01", "pw1", "일번", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("existUser", "pw2", "중복(DB)", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user02", "pw3", "이번", Role.ROLE_ADMIN));
+        rows.add(new UserJoinRequestDTO("user03", "", "비밀번호없음", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user01", "pw5", "중복(파일)", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user04", "pw6", "사번", null));
+        rows.add(new UserJoinRequestDTO("user05", "pw7", "오번", Role.ROLE_USER));
+
+        // when
+        UserImportResponseDTO res = userImportService.importUsers(rows.iterator());
+
+        // then
+        assertThat(res.total()).isEqualTo(7);
+        assertThat(res.imported()).isEqualTo(3);
+        assertThat(res.failed()).isEqualTo(4);
+        assertThat(res.failures())
+                .extracting(UserImportResponseDTO.RowFailure::row, UserImportResponseDTO.RowFailure::reason)
+                .containsExactlyInAnyOrder(
+                        tuple(2, "DUPLICATE_USER_ID"),
+                        tuple(4, "INVALID_ROW"),
+                        tuple(5, "DUPLICATE_USER_ID"),
+                        tuple(6, "INVALID_ROW")
+                );
+
+        // 먼저 나온 행이 저장되고, 비밀번호는 해시로 저장
+        User user01 = fakeRepo.findByUserId("user01").orElseThrow();
+        assertThat(user01.getUserName()).isEqualTo("일번");
+        assertThat(user01.getPassword()).isEqualTo("ENC:pw1");
+        assertThat(fakeRepo.findByUserId("user02").orElseThrow().getRole()).isEqualTo(Role.ROLE_ADMIN);
+        assertThat(fakeRepo.count()).isEqualTo(4);
+    }
+
+    @Test
+    void 해싱할수없는_행은_그행만_실패_나머지는_계속() {
+        // 72바이트 초과는 검증에서, 인코더 예외는 해싱 단계에서 행 단위 실패
+        BulkPasswordHasher strictHasher = new BulkPasswordHasher(new UserServiceTest.FakePasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if ("boom".contentEquals(rawPassword)) {
+                    throw new IllegalArgumentException("cannot hash");
+                }
+                return super.encode(rawPassword);
+            }
+        }, new PasswordHashingProperties());
+        UserImportProperties importProps = new UserImportProperties();
+        importProps.setChunkSize(3);
+        UserImportService service = new UserImportService(fakeRepo, strictHasher, importProps);
+
+        List<UserJoinRequestDTO> rows = new ArrayList<>();
+        rows.add(new UserJoinRequestDTO("user01", "pw1", "일번", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user02", "가".repeat(25), "75바이트", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user03", "boom", "해싱실패", Role.ROLE_USER));
+        rows.add(new UserJoinRequestDTO("user04", "pw4", "사번", Role.ROLE_USER));
+
+        try {
+            UserImportResponseDTO res = service.importUsers(rows.iterator());
+
+            assertThat(res.imported()).isEqualTo(2);
+            assertThat(res.failures())
+                    .extracting(UserImportResponseDTO.RowFailure::row, UserImportResponseDTO.RowFailure::reason)
+                    .containsExactlyInAnyOrder(tuple(2, "INVALID_ROW"), tuple(3, "INVALID_ROW"));
+            assertThat(fakeRepo.findByUserId("user01")).isPresent();
+            assertThat(fakeRepo.findByUserId("user04")).isPresent();
+            assertThat(fakeRepo.findByUserId("user03")).isEmpty();
+        } finally {
+            strictHasher.shutdown();
+        }
+    }
+}
@@ -3,15 +3,15 @@ package com.trevari.spring.trauthservice.application;
 import com.trevari.spring.trauthservice.domain.user.Role;
 import com.trevari.spring.trauthservice.domain.user.User;
 import com.trevari.spring.trauthservice.domain.user.UserRepository;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuditProperties;
+import com.trevari.spring.trauthservice.infrastructure.audit.AuthAuditTrail;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinRequestDTO;
 import com.trevari.spring.trauthservice.interfaces.dto.UserJoinResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,7 +26,8 @@ class UserServiceTest {
     void setUp() {
         fakeRepo = new FakeUserRepository();
         fakeEncoder = new FakePasswordEncoder();
-        userService = new UserService(fakeRepo, fakeEncoder);
+        userService = new UserService(fakeRepo, fakeEncoder,
+                new AuthAuditTrail(events -> { }, new AuditProperties()));
 
         // 초기 데이터 1건
         fakeRepo.save(
@@ -109,11 +110,50 @@ class UserServiceTest {
             return saved;
         }
 
+        @Override
+        public Optional<User> insertIfAbsent(User user) {
+            // 유니크 제약 흉내: 이미 있으면 저장하지 않고 empty
+            if (store.containsKey(user.getUserId())) {
+                return Optional.empty();
+            }
+            return Optional.of(save(user));
+        }
+
+        @Override
+        public void updatePassword(String userId, String encodedPassword) {
+            User u = store.get(userId);
+            if (u != null) {
+                store.put(userId, User.reconstruct(u.getId(), u.getUserId(), encodedPassword, u.getUserName(), u.getRole()));
+            }
+        }
+
+        @Override
+        public Set<String> findExistingUserIds(Collection<String> userIds) {
+            Set<String> existing = new HashSet<>();
+            for (String userId : userIds) {
+                if (store.containsKey(userId)) existing.add(userId);
+            }
+            return existing;
+        }
+
+        @Override
+        public Map<String, String> insertAll(List<User> users) {
+            Map<String, String> failures = new HashMap<>();
+            for (User user : users) {
+                if (store.containsKey(user.getUserId())) {
+                    failures.put(user.getUserId(), "DUPLICATE_USER_ID");
+                } else {
+                    save(user);
+                }
+            }
+            return failures;
+        }
+
         long count() { return store.size(); }
     }
 
     @Test
-    void 회원가입_ROLE_ADMIN_저장_테스트() {
+    void 회원가입_ROLE_ADMIN_요청해도_ROLE_USER_저장_테스트() {
         // given
         var req = new UserJoinRequestDTO("admin01", "Secret!", "관리자", Role.ROLE_ADMIN);
 
@@ -123,6 +163,21 @@ class UserServiceTest {
         // then
         assertThat(res.success()).isTrue();
 
+        var saved = fakeRepo.findByUserId("admin01").orElseThrow();
+        assertThat(saved.getRole()).isEqualTo(Role.ROLE_USER);
+    }
+
+    @Test
+    void 관리자_생성은_ROLE_ADMIN_저장_테스트() {
+        // given
+        var req = new UserJoinRequestDTO("admin01", "Secret!", "관리자", Role.ROLE_ADMIN);
+
+        // when
+        var res = userService.createByAdmin(req);
+
+        // then
+        assertThat(res.success()).isTrue();
+
         var saved = fakeRepo.findByUserId("admin01").orElseThrow();
         assertThat(saved.getRole()).isEqualTo(Role.ROLE_ADMIN);
     }
@@ -0,0 +1,85 @@
+package com.trevari.spring.trauthservice.infrastructure.audit;
+
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditEvent;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditRepository;
+import com.trevari.spring.trauthservice.domain.audit.AuthAuditType;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 제약 위반 행은 dead-letter 로 빼고 나머지는 기록, DB 장애는 다음 flush 에 재시도
+class AuthAuditTrailTest {
+
+    @Test
+    void 긴값과_NUL문자는_컬럼에_맞게_정리() {
+        AuditRepository repository = new AuditRepository();
+        AuthAuditTrail trail = new AuthAuditTrail(repository, new AuditProperties());
+
+        trail.record(AuthAuditType.LOGIN_FAILURE, "a".repeat(300), "1.2.3.4\0", "bad\0detail");
+        trail.flush();
+
+        AuthAuditEvent event = repository.rows.get(0);
+        assertThat(event.getUserId()).hasSize(255);
+        assertThat(event.getClientIp()).isEqualTo("1.2.3.4");
+        assertThat(event.getDetail()).isEqualTo("baddetail");
+    }
+
+    @Test
+    void 제약위반_배치는_한건씩_다시_써서_문제행만_dead_letter() {
+        AuditRepository repository = new AuditRepository();
+        repository.rejectedUserId = "bad";
+        AuthAuditTrail trail = new AuthAuditTrail(repository, new AuditProperties());
+
+        trail.record(AuthAuditType.LOGIN_SUCCESS, "hong");
+        trail.record(AuthAuditType.LOGIN_SUCCESS, "bad");
+        trail.record(AuthAuditType.LOGIN_SUCCESS, "kim");
+        trail.flush();
+
+        assertThat(repository.rows).extracting(AuthAuditEvent::getUserId).containsExactly("hong", "kim");
+        assertThat(trail.stats().deadLettered()).isEqualTo(1);
+        assertThat(trail.stats().written()).isEqualTo(2);
+
+        // 다음 flush 가 같은 배치를 다시 시도하지 않음
+        trail.flush();
+        assertThat(repository.rows).hasSize(2);
+    }
+
+    @Test
+    void DB장애면_버리지않고_다음_flush에_재시도() {
+        AuditRepository repository = new AuditRepository();
+        repository.down = true;
+        AuthAuditTrail trail = new AuthAuditTrail(repository, new AuditProperties());
+
+        trail.record(AuthAuditType.LOGOUT, "hong");
+        trail.flush();
+        assertThat(repository.rows).isEmpty();
+
+        repository.down = false;
+        trail.flush();
+        assertThat(repository.rows).extracting(AuthAuditEvent::getUserId).containsExactly("hong");
+        assertThat(trail.stats().deadLettered()).isZero();
+    }
+
+    static class AuditRepository implements AuthAuditRepository {
+        private final List<AuthAuditEvent> rows = new ArrayList<>();
+        private String rejectedUserId;
+        private boolean down;
+
+        @Override
+        public void saveAll(List<AuthAuditEvent> batch) {
+            if (down) {
+                throw new TransientDataAccessResourceException("connection refused");
+            }
+            // 배치는 전부 성공하거나 전부 실패
+            if (batch.stream().anyMatch(e -> e.getUserId().equals(rejectedUserId))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            rows.addAll(batch);
+        }
+    }
+}
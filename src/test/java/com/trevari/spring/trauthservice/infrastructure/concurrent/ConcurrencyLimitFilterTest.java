@@ -0,0 +1,92 @@
+package com.trevari.spring.trauthservice.infrastructure.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한도를 넘는 요청은 대기 없이 503, 한도는 지연에 따라 줄고 늘어남
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void 한도를_넘는_요청은_바로_503과_RetryAfter_다른_분류는_영향없음() throws Exception {
+        ConcurrencyLimitProperties props = new ConcurrencyLimitProperties();
+        props.getSession().setInitial(1);
+        props.getSession().setMin(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(props, new ObjectMapper().findAndRegisterModules());
+
+        AtomicReference<MockHttpServletResponse> shedLogin = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> validate = new AtomicReference<>();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+
+        // 첫 로그인 요청이 처리 중인 동안 들어온 요청들
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/sessions"), first, (req, res) -> {
+            MockHttpServletResponse second = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/sessions"), second, (r, s) -> { });
+            shedLogin.set(second);
+
+            MockHttpServletResponse validation = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/tokens/validate"), validation, (r, s) -> { });
+            validate.set(validation);
+        });
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(shedLogin.get().getStatus()).isEqualTo(503);
+        assertThat(shedLogin.get().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(validate.get().getStatus()).isEqualTo(200);
+        assertThat(filter.limit(ConcurrencyLimitFilter.EndpointClass.SESSION).rejectedCount()).isEqualTo(1);
+        assertThat(filter.limit(ConcurrencyLimitFilter.EndpointClass.SESSION).inFlight()).isZero();
+    }
+
+    @Test
+    void 대량이관은_가입과_다른_한도로_분류() {
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/users")))
+                .isEqualTo(ConcurrencyLimitFilter.EndpointClass.JOIN);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/users/admin")))
+                .isEqualTo(ConcurrencyLimitFilter.EndpointClass.JOIN);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/users/bulk")))
+                .isEqualTo(ConcurrencyLimitFilter.EndpointClass.BULK);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/auth/tokens/validate")))
+                .isEqualTo(ConcurrencyLimitFilter.EndpointClass.VALIDATE);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/actuator/health"))).isNull();
+    }
+
+    @Test
+    void 지연이_늘면_한도를_줄이고_회복되면_다시_늘린다() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 5, 400, 1.5, 0.2, 20, 30);
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limit, 10);
+        }
+        int grown = limit.limit();
+        assertThat(grown).isGreaterThan(50);
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limit, 100);
+        }
+        int shrunk = limit.limit();
+        assertThat(shrunk).isLessThan(grown);
+
+        for (int i = 0; i < 40; i++) {
+            saturate(limit, 10);
+        }
+        assertThat(limit.limit()).isGreaterThan(shrunk);
+    }
+
+    // 한도만큼 동시에 받아 모두 rttMillis 로 끝냄
+    private static void saturate(AdaptiveConcurrencyLimit limit, long rttMillis) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.trevari.spring.trauthservice.infrastructure.persistence;
+
+import com.trevari.spring.trauthservice.domain.user.UserChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기 커넥션 라우팅: 라운드로빈, 비정상 복제본 건너뜀, 획득 실패 시 primary, onPrimary 고정
+class ReplicaRoutingDataSourceTest {
+
+    private final StubDataSource primary = new StubDataSource("primary");
+    private final StubDataSource replica0 = new StubDataSource("replica-0");
+    private final StubDataSource replica1 = new StubDataSource("replica-1");
+
+    @Test
+    void 정상_복제본을_라운드로빈으로_사용() throws Exception {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), 1);
+
+        for (int i = 0; i < 4; i++) {
+            routing.getConnection();
+        }
+
+        assertThat(replica0.connections.get()).isEqualTo(2);
+        assertThat(replica1.connections.get()).isEqualTo(2);
+        assertThat(primary.connections.get()).isZero();
+        assertThat(routing.primaryFallbacks()).isZero();
+    }
+
+    @Test
+    void 헬스체크에서_내려간_복제본은_건너뛰고_회복되면_다시_사용() throws Exception {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), 1);
+        replica0.down = true;
+        routing.checkHealth();
+        assertThat(routing.healthyReplicas()).isEqualTo(1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(routing.getConnection().toString()).isEqualTo("replica-1");
+        }
+        assertThat(replica0.connections.get()).isZero();
+        assertThat(primary.connections.get()).isZero();
+
+        replica0.down = false;
+        routing.checkHealth();
+        assertThat(routing.healthyReplicas()).isEqualTo(2);
+    }
+
+    @Test
+    void 커넥션_획득이_실패하면_primary로_넘기고_비정상_처리() throws Exception {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0), 1);
+        replica0.down = true;
+
+        assertThat(routing.getConnection().toString()).isEqualTo("primary");
+        assertThat(routing.primaryFallbacks()).isEqualTo(1);
+        assertThat(routing.healthyReplicas()).isZero();
+
+        // 다음 요청은 복제본을 다시 시도하지 않고 바로 primary
+        int attempts = replica0.attempts.get();
+        assertThat(routing.getConnection().toString()).isEqualTo("primary");
+        assertThat(replica0.attempts.get()).isEqualTo(attempts);
+        assertThat(routing.primaryFallbacks()).isEqualTo(2);
+    }
+
+    @Test
+    void onPrimary_구간에서는_복제본이_정상이어도_primary() throws Exception {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0), 1);
+
+        String pinned = ReplicaRouting.onPrimary(() -> ReplicaRouting.onPrimary(() -> connect(routing)));
+        assertThat(pinned).isEqualTo("primary");
+        assertThat(routing.primaryFallbacks()).isZero(); // 고정은 대체(fallback)로 세지 않음
+
+        // 구간이 끝나면 다시 복제본
+        assertThat(routing.getConnection().toString()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void 최근_가입한_사용자는_창이_지날때까지만_primary_대상() {
+        ReadReplicaProperties props = new ReadReplicaProperties();
+        props.setEnabled(true);
+        ReadYourWritesWindow window = new ReadYourWritesWindow(props);
+
+        window.onUserChanged(new UserChangedEvent("alice"));
+        assertThat(window.isRecentlyWritten("alice")).isTrue();
+        assertThat(window.isRecentlyWritten("bob")).isFalse();
+
+        props.setReadYourWritesWindow(Duration.ZERO);
+        window.onUserChanged(new UserChangedEvent("alice"));
+        assertThat(window.isRecentlyWritten("alice")).isFalse();
+
+        // 복제본 라우팅이 꺼져 있으면 기록하지 않음
+        props.setEnabled(false);
+        props.setReadYourWritesWindow(Duration.ofSeconds(10));
+        window.onUserChanged(new UserChangedEvent("carol"));
+        assertThat(window.isRecentlyWritten("carol")).isFalse();
+    }
+
+    private static String connect(ReplicaRoutingDataSource routing) {
+        try {
+            return routing.getConnection().toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 이름만 가진 커넥션을 돌려주는 DataSource, down 이면 획득 실패 */
+    private static final class StubDataSource extends AbstractDataSource {
+        private final String name;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger connections = new AtomicInteger();
+        private volatile boolean down;
+
+        StubDataSource(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts.incrementAndGet();
+            if (down) {
+                throw new SQLException(name + " is down");
+            }
+            connections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "isValid" -> true;
+                        case "toString" -> name;
+                        default -> null; // close 등
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// jjwt 와의 교차 검증: 같은 입력이면 같은 토큰, 서로가 발급한 토큰을 같은 결과로 검증
+class HmacJwtCodecTest {
+
+    private static final String ISSUER = "trevari-auth";
+
+    private JwtKeyring.KeyEntry key;
+    private HmacJwtCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        key = JwtKeyring.hmac(null, SignatureAlgorithm.HS512, Base64.getEncoder().encodeToString(secret), Instant.now());
+        codec = new HmacJwtCodec(new JwtKeyring(List.of(key), key.kid()));
+    }
+
+    @Test
+    void jjwt와_바이트단위로_같은_토큰_발급() {
+        Instant now = Instant.now();
+        List<String> userNames = List.of("홍길동", "quote\"back\\slash", "tab\tnew\nline\u0001", "emoji😀", "");
+
+        for (String userName : userNames) {
+            String jti = UUID.randomUUID().toString();
+            String fid = UUID.randomUUID().toString();
+
+            String expected = jjwt(now, Duration.ofHours(20), "hong", jti, 1L, "ROLE_USER", userName, fid);
+            String actual = codec.encode(key, ISSUER, now, now.plus(Duration.ofHours(20)),
+                    "hong", jti, 1L, "ROLE_USER", userName, fid);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        // null 클레임 생략 규칙도 동일
+        assertThat(codec.encode(key, ISSUER, now, now.plusSeconds(60), "hong", "jti-1", null, null, null, null))
+                .isEqualTo(jjwt(now, Duration.ofSeconds(60), "hong", "jti-1", null, null, null, null));
+    }
+
+    @Test
+    void jjwt발급_토큰을_같은_클레임으로_디코딩() {
+        Instant now = Instant.now();
+        String token = jjwt(now, Duration.ofMinutes(10), "hong", "jti-1", 42L, "ROLE_ADMIN", "홍길동", "fam-1");
+
+        TokenProvider.TokenClaims claims = codec.decode(token, System.currentTimeMillis());
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.userId()).isEqualTo("hong");
+        assertThat(claims.id()).isEqualTo(42L);
+        assertThat(claims.role()).isEqualTo("ROLE_ADMIN");
+        assertThat(claims.userName()).isEqualTo("홍길동");
+        assertThat(claims.tokenId()).isEqualTo("jti-1");
+        assertThat(claims.familyId()).isEqualTo("fam-1");
+        assertThat(claims.exp()).isEqualTo(Instant.ofEpochSecond(now.plus(Duration.ofMinutes(10)).getEpochSecond()));
+    }
+
+    @Test
+    void 코덱발급_토큰을_jjwt로_검증() {
+        Instant now = Instant.now();
+        String token = codec.encode(key, ISSUER, now, now.plusSeconds(600), "hong", "jti-1", 7L, "ROLE_USER", "홍길동", null);
+
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key.verificationKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        assertThat(claims.getSubject()).isEqualTo("hong");
+        assertThat(claims.get("id", Long.class)).isEqualTo(7L);
+        assertThat(claims.get("userName", String.class)).isEqualTo("홍길동");
+        assertThat(claims.getId()).isEqualTo("jti-1");
+    }
+
+    @Test
+    void 만료_변조_처리불가형식은_jjwt와_같은판정() {
+        Instant now = Instant.now();
+        String expired = jjwt(now.minusSeconds(120), Duration.ofSeconds(60), "hong", "jti-1", 1L, "ROLE_USER", "u", null);
+        assertThatThrownBy(() -> codec.decode(expired, System.currentTimeMillis()))
+                .isInstanceOf(ExpiredJwtException.class);
+
+        String valid = jjwt(now, Duration.ofMinutes(10), "hong", "jti-1", 1L, "ROLE_USER", "u", null);
+        int sigStart = valid.lastIndexOf('.') + 1;
+        char flipped = valid.charAt(sigStart) == 'A' ? 'B' : 'A';
+        String tampered = valid.substring(0, sigStart) + flipped + valid.substring(sigStart + 1);
+        assertThatThrownBy(() -> codec.decode(tampered, System.currentTimeMillis()))
+                .isInstanceOf(SignatureException.class);
+
+        // 모르는 클레임이 있으면 jjwt 로 넘김
+        String custom = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                .setSubject("hong")
+                .setExpiration(Date.from(now.plusSeconds(60)))
+                .claim("scope", "admin")
+                .signWith(key.signingKey(), key.algorithm())
+                .compact();
+        assertThat(codec.decode(custom, System.currentTimeMillis())).isNull();
+        assertThat(codec.decode("not-a-jwt-token", System.currentTimeMillis())).isNull();
+    }
+
+    @Test
+    void FAST코덱_TokenProvider_발급검증_및_기존jjwt토큰_호환() {
+        byte[] secretBytes = new byte[64];
+        new SecureRandom().nextBytes(secretBytes);
+        String secret = Base64.getEncoder().encodeToString(secretBytes);
+
+        JwtProperties jjwtProps = new JwtProperties();
+        jjwtProps.setIssuer(ISSUER);
+        jjwtProps.setSecret(secret);
+        TokenProvider jjwtProvider = new TokenProvider(jjwtProps);
+        jjwtProvider.init();
+
+        JwtProperties fastProps = new JwtProperties();
+        fastProps.setIssuer(ISSUER);
+        fastProps.setSecret(secret);
+        fastProps.setCodec(JwtProperties.Codec.FAST);
+        TokenProvider fastProvider = new TokenProvider(fastProps);
+        fastProvider.init();
+
+        String fromJjwt = jjwtProvider.generateToken("hong", 1L, "ROLE_USER", "홍길동", Duration.ofMinutes(10));
+        String fromFast = fastProvider.generateToken("hong", 1L, "ROLE_USER", "홍길동", Duration.ofMinutes(10));
+
+        assertThat(fastProvider.validate(fromJjwt)).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(jjwtProvider.validate(fromFast)).isEqualTo(TokenProvider.TokenStatus.VALID);
+        assertThat(fastProvider.verify(fromJjwt).claims().userName()).isEqualTo("홍길동");
+        assertThat(jjwtProvider.verify(fromFast).claims().userName()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 단계별검증_서명전에_거절하고_서명실패토큰은_캐시() {
+        for (JwtProperties.Codec codecType : JwtProperties.Codec.values()) {
+            JwtProperties props = new JwtProperties();
+            props.setIssuer(ISSUER);
+            props.setSecret(Base64.getEncoder().encodeToString(key.signingKey().getEncoded()));
+            props.setCodec(codecType);
+            TokenProvider provider = new TokenProvider(props);
+            provider.init();
+
+            String valid = provider.generateToken("hong", 1L, "ROLE_USER", "홍길동", Duration.ofMinutes(10));
+            String expired = provider.generateToken("hong", 1L, "ROLE_USER", "홍길동", Duration.ofSeconds(-30));
+            int sigStart = valid.lastIndexOf('.') + 1;
+            char flipped = valid.charAt(sigStart) == 'A' ? 'B' : 'A';
+            String tampered = valid.substring(0, sigStart) + flipped + valid.substring(sigStart + 1);
+            String unknownKid = Jwts.builder()
+                    .setHeaderParam(JwsHeader.KEY_ID, "unknown")
+                    .setSubject("hong")
+                    .setExpiration(Date.from(Instant.now().plusSeconds(60)))
+                    .signWith(key.signingKey(), key.algorithm())
+                    .compact();
+
+            TokenProvider.Verification verification = provider.verify(valid);
+            assertThat(verification.isValid()).isTrue();
+            assertThat(verification.claims().userName()).isEqualTo("홍길동");
+
+            assertThat(provider.verify("not-a-jwt-token").status()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+            assertThat(provider.verify(null).status()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+            assertThat(provider.verify(unknownKid).status()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+            assertThat(provider.verify(expired).status()).isEqualTo(TokenProvider.TokenStatus.EXPIRED);
+            assertThat(provider.rejectionCount(TokenProvider.RejectionStage.STRUCTURE)).isEqualTo(2);
+            assertThat(provider.rejectionCount(TokenProvider.RejectionStage.HEADER)).isEqualTo(1);
+            assertThat(provider.rejectionCount(TokenProvider.RejectionStage.EXPIRY)).isEqualTo(1);
+
+            // 같은 위조 토큰은 두 번째부터 서명 검증 없이 거절
+            assertThat(provider.verify(tampered).status()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+            assertThat(provider.verify(tampered).status()).isEqualTo(TokenProvider.TokenStatus.INVALID);
+            assertThat(provider.rejectionCount(TokenProvider.RejectionStage.SIGNATURE)).isEqualTo(1);
+            assertThat(provider.rejectionCount(TokenProvider.RejectionStage.NEGATIVE_CACHE)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void COMPACT프로필_짧은클레임으로_발급하고_두형식_모두_검증() {
+        String secret = Base64.getEncoder().encodeToString(key.signingKey().getEncoded());
+        List<TokenProvider> standard = new ArrayList<>();
+        List<TokenProvider> compact = new ArrayList<>();
+        for (JwtProperties.Codec codecType : JwtProperties.Codec.values()) {
+            for (JwtProperties.TokenProfile profile : JwtProperties.TokenProfile.values()) {
+                JwtProperties props = new JwtProperties();
+                props.setIssuer(ISSUER);
+                props.setSecret(secret);
+                props.setCodec(codecType);
+                props.setProfile(profile);
+                TokenProvider provider = new TokenProvider(props);
+                provider.init();
+                (profile == JwtProperties.TokenProfile.COMPACT ? compact : standard).add(provider);
+            }
+        }
+
+        for (TokenProvider issuer : compact) {
+            String compactToken = issuer.generateToken("hong", 1L, "ROLE_ADMIN", "홍길동", Duration.ofMinutes(10));
+            String unknownRole = issuer.generateToken("hong", 1L, "ROLE_GUEST", "홍길동", Duration.ofMinutes(10));
+            String standardToken = standard.get(0).generateToken("hong", 1L, "ROLE_ADMIN", "홍길동", Duration.ofMinutes(10));
+            assertThat(compactToken.length()).isLessThan(standardToken.length());
+
+            for (TokenProvider verifier : List.of(standard.get(0), standard.get(1), compact.get(0), compact.get(1))) {
+                TokenProvider.Verification verification = verifier.verify(compactToken);
+                assertThat(verification.isValid()).isTrue();
+                assertThat(verification.claims().role()).isEqualTo("ROLE_ADMIN");
+                assertThat(verification.claims().userName()).isEqualTo("홍길동");
+                assertThat(verifier.verify(unknownRole).claims().role()).isEqualTo("ROLE_GUEST");
+                assertThat(verifier.verify(standardToken).claims().role()).isEqualTo("ROLE_ADMIN");
+            }
+        }
+
+        // 코덱 compact 토큰은 짧은 키만 담고 jjwt 로도 그대로 검증된다
+        Instant now = Instant.now();
+        String fromCodec = codec.encode(key, ISSUER, now, now.plusSeconds(60), "hong", "jti-1", 1L, "ROLE_USER", "홍길동", "fid-1",
+                TokenProvider.TokenType.REFRESH, true);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key.signingKey()).build().parseClaimsJws(fromCodec).getBody();
+        assertThat(claims.get(TokenProvider.VERSION_CLAIM, Integer.class)).isEqualTo(TokenProvider.COMPACT_VERSION);
+        assertThat(claims.get(TokenProvider.ROLE_CODE_CLAIM, Integer.class)).isEqualTo(1);
+        assertThat(claims.get(TokenProvider.COMPACT_FAMILY_ID_CLAIM, String.class)).isEqualTo("fid-1");
+        assertThat(claims.get(TokenProvider.TOKEN_TYPE_CLAIM, String.class)).isEqualTo("rt");
+        assertThat(claims).doesNotContainKeys("role", "userName", "fid");
+    }
+
+    // TokenProvider 의 jjwt 발급 경로와 같은 빌더 체인
+    private String jjwt(Instant now, Duration ttl, String subject, String jti, Long id, String role, String userName, String fid) {
+        var builder = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                .setIssuer(ISSUER)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .setSubject(subject)
+                .setId(jti)
+                .claim("id", id)
+                .claim("role", role)
+                .claim("userName", userName);
+        if (fid != null) {
+            builder.claim("fid", fid);
+        }
+        return builder.signWith(key.signingKey(), key.algorithm()).compact();
+    }
+}
@@ -0,0 +1,88 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bearer 토큰만으로 인증, 세션/DB 조회 없음
+class JwtAuthenticationFilterTest {
+
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("trevari-auth");
+        props.setSecret(Base64.getEncoder().encodeToString(secret));
+        tokenProvider = new TokenProvider(props);
+        tokenProvider.init();
+        filter = new JwtAuthenticationFilter(tokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 유효한_Bearer토큰은_클레임으로_인증_세션은_만들지않음() throws Exception {
+        String token = tokenProvider.generateToken("admin", 7L, "ROLE_ADMIN", "관리자", Duration.ofMinutes(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/bulk");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        Authentication authentication = filterAndCapture(request);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo("admin");
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    void 만료_위조_형식오류_토큰은_인증하지않음() throws Exception {
+        String expired = tokenProvider.generateToken("admin", 7L, "ROLE_ADMIN", "관리자", Duration.ofSeconds(-30));
+        for (String authorization : new String[]{"Bearer " + expired, "Bearer not-a-jwt", "Basic YWRtaW46cHc="}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/anything");
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+
+            assertThat(filterAndCapture(request)).isNull();
+        }
+    }
+
+    @Test
+    void 리프레시토큰으로는_인증하지않음() throws Exception {
+        String refresh = tokenProvider.generateRefreshToken("admin", 7L, "ROLE_ADMIN", "관리자",
+                tokenProvider.now().plus(Duration.ofDays(2)), TokenProvider.newTokenId(), TokenProvider.newTokenId());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/bulk");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + refresh);
+
+        assertThat(filterAndCapture(request)).isNull();
+    }
+
+    private Authentication filterAndCapture(MockHttpServletRequest request) throws Exception {
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        return seen.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.exception.ErrorResponse;
+import com.trevari.spring.trauthservice.exception.GlobalExceptionHandler;
+import com.trevari.spring.trauthservice.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 해싱 풀(1) + 대기열(1)이 차면 기다리지 않고 거절 → 429 + Retry-After
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+    private BulkheadPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setPoolSize(1);
+        props.setQueueCapacity(1);
+        executor = new PasswordHashingExecutor(props, new SimpleMeterRegistry());
+        encoder = new BulkheadPasswordEncoder(new BlockingPasswordEncoder(release), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 풀과_대기열이_가득차면_바로_거절하고_429와_RetryAfter() throws Exception {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 하나는 실행 중, 하나는 대기열에
+            List<Future<Boolean>> accepted = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                accepted.add(callers.submit(() -> encoder.matches("pw", "hash")));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((executor.stats().active() < 1 || executor.stats().queueDepth() < 1) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertThatThrownBy(() -> encoder.encode("pw")).isInstanceOf(HashingCapacityExceededException.class);
+            assertThat(executor.stats().rejected()).isEqualTo(1);
+
+            ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleHashingCapacityExceeded(
+                    new HashingCapacityExceededException("password hashing capacity exceeded"),
+                    new MockHttpServletRequest("POST", "/api/auth/sessions"));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+            // 자리가 나면 대기하던 작업까지 정상 처리, 이후 요청도 다시 받음
+            release.countDown();
+            for (Future<Boolean> result : accepted) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        assertThat(encoder.encode("pw")).isEqualTo("hashed");
+        assertThat(executor.stats().rejected()).isEqualTo(1);
+    }
+
+    /** release 전까지 해싱이 끝나지 않는 인코더 (BCrypt 대신) */
+    private record BlockingPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return true;
+        }
+
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.trevari.spring.trauthservice.infrastructure.security;
+
+import com.trevari.spring.trauthservice.domain.user.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조회 캐시 + 음성 캐시, 변경 이벤트로 무효화 (적재 중 무효화된 값은 넣지 않음)
+class UserDetailsCacheTest {
+
+    private UserDetailsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(new UserCacheProperties());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void 두번째_조회부터는_캐시에서_응답() {
+        Function<String, Optional<CustomUserDetails>> loader = counting(user("alice", "pw-1"));
+
+        assertThat(cache.getOrLoad("alice", loader).getPassword()).isEqualTo("pw-1");
+        assertThat(cache.getOrLoad("alice", loader).getPassword()).isEqualTo("pw-1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().negativeHits()).isZero();
+    }
+
+    @Test
+    void 없는_아이디도_캐시_가입이벤트_후에는_다시_조회() {
+        assertThat(cache.getOrLoad("bob", counting(null))).isNull();
+        assertThat(cache.getOrLoad("bob", counting(null))).isNull();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().negativeHits()).isEqualTo(1);
+
+        cache.onUserChanged(new UserChangedEvent("bob"));
+
+        assertThat(cache.getOrLoad("bob", counting(user("bob", "pw-1"))).getPassword()).isEqualTo("pw-1");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 적재_도중_무효화되면_읽어온_값을_캐시에_넣지않음() {
+        // DB 에서 이전 값을 읽은 직후 다른 트랜잭션이 커밋되어 변경 이벤트가 들어온 상황
+        Function<String, Optional<CustomUserDetails>> staleLoader = userId -> {
+            loads.incrementAndGet();
+            cache.onUserChanged(new UserChangedEvent(userId));
+            return Optional.of(user(userId, "old-pw"));
+        };
+
+        assertThat(cache.getOrLoad("carol", staleLoader).getPassword()).isEqualTo("old-pw");
+        assertThat(cache.getOrLoad("carol", counting(user("carol", "new-pw"))).getPassword()).isEqualTo("new-pw");
+        assertThat(loads.get()).isEqualTo(2);
+
+        // 무효화 없이 적재된 값은 그대로 캐시
+        assertThat(cache.getOrLoad("carol", counting(user("carol", "other-pw"))).getPassword()).isEqualTo("new-pw");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Function<String, Optional<CustomUserDetails>> counting(CustomUserDetails result) {
+        return userId -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(result);
+        };
+    }
+
+    private static CustomUserDetails user(String userId, String password) {
+        return new CustomUserDetails(1L, userId, password, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}